@@ -0,0 +1,59 @@
+package com.webvibes.portal.bench;
+
+import com.webvibes.portal.broadcast.ChangeEvent;
+import com.webvibes.portal.model.Course;
+import com.webvibes.portal.model.Internship;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+final class Fixtures {
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Design", "Marketing", "Data", "Operations"};
+    private static final String[] LOCATIONS = {"Remote", "Pune", "Bangalore", "Mumbai"};
+
+    private Fixtures() {
+    }
+
+    static Internship internship(int i) {
+        Internship internship = new Internship();
+        internship.setTitle("Internship " + i);
+        internship.setDepartment(DEPARTMENTS[i % DEPARTMENTS.length]);
+        internship.setLocation(LOCATIONS[i % LOCATIONS.length]);
+        internship.setDurationWeeks(4 + i % 20);
+        internship.setDescription("Work with the team on real projects, reviews and releases. Position " + i + ".");
+        internship.setPostedAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusHours(i));
+        return internship;
+    }
+
+    static List<Internship> internships(int count) {
+        List<Internship> internships = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Internship internship = internship(i);
+            internship.setId((long) i + 1);
+            internships.add(internship);
+        }
+        return internships;
+    }
+
+    static List<Course> courses(int count) {
+        List<Course> courses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            courses.add(new Course((long) i + 1, "Course " + i, "Instructor " + i % 7,
+                    "Hands-on course covering fundamentals and a capstone project. Module " + i + ".",
+                    (4 + i % 8) + " weeks", DEPARTMENTS[i % DEPARTMENTS.length], true));
+        }
+        return courses;
+    }
+
+    static List<ChangeEvent> changeEvents(int count) {
+        List<ChangeEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(new ChangeEvent("bench", i + 1, ChangeEvent.Op.updated, (long) i + 1,
+                    Map.of("title", "Internship " + i, "location", LOCATIONS[i % LOCATIONS.length], "active", true)));
+        }
+        return events;
+    }
+}
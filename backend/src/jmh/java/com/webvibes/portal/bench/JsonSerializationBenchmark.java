@@ -0,0 +1,52 @@
+package com.webvibes.portal.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.model.Course;
+import com.webvibes.portal.model.Internship;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialisation of the catalog lists, with the same Jackson defaults
+ * Spring MVC uses for {@code GET /api/internships} and {@code GET /api/courses}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Internship> internships;
+    private List<Course> courses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        internships = Fixtures.internships(size);
+        courses = Fixtures.courses(size);
+    }
+
+    @Benchmark
+    public byte[] internships() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(internships);
+    }
+
+    @Benchmark
+    public byte[] courses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(courses);
+    }
+}
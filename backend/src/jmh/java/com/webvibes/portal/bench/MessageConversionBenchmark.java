@@ -0,0 +1,68 @@
+package com.webvibes.portal.bench;
+
+import com.webvibes.portal.broadcast.ChangeBroadcaster;
+import com.webvibes.portal.broadcast.ChangeEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One broadcast of a batch of {@link ChangeEvent}s as the broker sends it to a
+ * subscriber: payload conversion followed by STOMP frame encoding, for the
+ * JSON topics and the CBOR ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessageConversionBenchmark {
+
+    @Param({"1", "50"})
+    private int events;
+
+    private final StompEncoder encoder = new StompEncoder();
+    private MappingJackson2MessageConverter jsonConverter;
+    private MappingJackson2MessageConverter binaryConverter;
+    private List<ChangeEvent> batch;
+    private MessageHeaders headers;
+
+    @Setup
+    public void setUp() {
+        jsonConverter = new MappingJackson2MessageConverter();
+        binaryConverter = ChangeBroadcaster.binaryConverter();
+        batch = Fixtures.changeEvents(events);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/topic/internships");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId("1");
+        accessor.setLeaveMutable(true);
+        headers = accessor.getMessageHeaders();
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return encode(jsonConverter.toMessage(batch, headers));
+    }
+
+    @Benchmark
+    public byte[] cbor() {
+        return encode(binaryConverter.toMessage(batch, headers));
+    }
+
+    private byte[] encode(Message<?> message) {
+        return encoder.encode(message.getHeaders(), (byte[]) message.getPayload());
+    }
+}
@@ -0,0 +1,78 @@
+package com.webvibes.portal.bench;
+
+import com.webvibes.portal.InternshipPortalApplication;
+import com.webvibes.portal.model.Application;
+import com.webvibes.portal.model.Internship;
+import com.webvibes.portal.service.ApplicationService;
+import com.webvibes.portal.service.InternshipService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service calls against the full application context on the H2 test profile:
+ * the cached active-internship list and an application insert (JPA save,
+ * stats counters and change broadcast).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ServiceBenchmark {
+
+    private static final int INTERNSHIPS = 200;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private InternshipService internshipService;
+    private ApplicationService applicationService;
+    private long internshipId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(InternshipPortalApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        "--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1");
+        internshipService = context.getBean(InternshipService.class);
+        applicationService = context.getBean(ApplicationService.class);
+        for (int i = 0; i < INTERNSHIPS; i++) {
+            internshipId = internshipService.create(Fixtures.internship(i)).getId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Internship> listActive() {
+        return internshipService.listActive();
+    }
+
+    @Benchmark
+    public Application createApplication() {
+        long n = sequence.incrementAndGet();
+        Application application = new Application();
+        application.setInternshipId(internshipId);
+        application.setFullName("Benchmark " + n);
+        application.setEmail("bench" + n + "@example.com");
+        application.setPhone("5550100");
+        application.setCoverLetter("Submitted by the benchmark");
+        return applicationService.create(application);
+    }
+}
@@ -0,0 +1,202 @@
+package com.webvibes.portal.broadcast;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects entity changes per topic and sends them as one batched frame of
+ * {@link ChangeEvent}s per flush window instead of one frame per write.
+ * Repeated changes to the same entity within a window are merged into one
+ * event (bulk imports under the {@code null} key are merged into one summary),
+ * and every sent event is kept in a bounded per-topic {@link ChangeLog}
+ * so clients can resume from the last sequence number they saw. Sequence
+ * numbers are per node and tagged with its {@link #epoch()}; a replay request
+ * for another epoch is refused, so behind a broker relay a client only resumes
+ * against the node that sent the events and otherwise reloads.
+ * <p>
+ * With binary encoding enabled every batch is also published CBOR-encoded on
+ * {@code <topic>.cbor}. STOMP only sends {@code application/octet-stream}
+ * bodies as binary WebSocket frames, so those frames carry
+ * {@code application/octet-stream;format=cbor} and are meant for the native
+ * endpoint; SockJS transports are text-only.
+ * <p>
+ * Each flush records {@code websocket.broadcast} (time to hand a batch to the
+ * broker) and {@code websocket.broadcast.events} per topic.
+ */
+@Component
+public class ChangeBroadcaster {
+    private static final TypeReference<Map<String, Object>> FIELDS = new TypeReference<>() {};
+    public static final String BINARY_SUFFIX = ".cbor";
+    public static final MimeType BINARY_CONTENT_TYPE =
+            new MimeType("application", "octet-stream", Map.of("format", "cbor"));
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpMessagingTemplate binaryTemplate;
+    private final ObjectMapper objectMapper;
+    private final int replayCapacity;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TopicMeters> meters = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, PendingChange>> pending = new ConcurrentHashMap<>();
+    private final Map<String, ChangeLog> logs = new ConcurrentHashMap<>();
+    private final ReentrantLock flushing = new ReentrantLock();
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    public ChangeBroadcaster(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper,
+                             @Value("${websocket.broadcast.replay-capacity:1024}") int replayCapacity,
+                             @Value("${websocket.binary.enabled:false}") boolean binaryEncoding,
+                             MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.replayCapacity = replayCapacity;
+        this.meterRegistry = meterRegistry;
+        this.binaryTemplate = binaryEncoding ? binaryTemplate(messagingTemplate) : null;
+    }
+
+    public static MappingJackson2MessageConverter binaryConverter() {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter(BINARY_CONTENT_TYPE);
+        converter.setObjectMapper(new CBORMapper());
+        return converter;
+    }
+
+    private static SimpMessagingTemplate binaryTemplate(SimpMessagingTemplate messagingTemplate) {
+        SimpMessagingTemplate template = new SimpMessagingTemplate(messagingTemplate.getMessageChannel());
+        template.setMessageConverter(binaryConverter());
+        return template;
+    }
+
+    public Map<String, Object> fields(Object entity) {
+        return objectMapper.convertValue(entity, FIELDS);
+    }
+
+    public void created(String topic, Long id, Object entity) {
+        enqueue(topic, id, new PendingChange(ChangeEvent.Op.created, fields(entity)));
+    }
+
+    public void updated(String topic, Long id, Map<String, Object> before, Object entity) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        fields(entity).forEach((field, value) -> {
+            if (!Objects.equals(before.get(field), value)) {
+                changes.put(field, value);
+            }
+        });
+        if (!changes.isEmpty()) {
+            enqueue(topic, id, new PendingChange(ChangeEvent.Op.updated, changes));
+        }
+    }
+
+    public void deleted(String topic, Long id) {
+        enqueue(topic, id, new PendingChange(ChangeEvent.Op.deleted, Map.of()));
+    }
+
+    public void imported(String topic, List<Long> ids) {
+        if (!ids.isEmpty()) {
+            enqueue(topic, null, new PendingChange(ChangeEvent.Op.imported, Map.of("count", ids.size(), "ids", ids)));
+        }
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    /**
+     * Events of {@code topic} after {@code since}; empty (the client reloads)
+     * when they are gone or {@code epoch} is not this node's.
+     */
+    public Optional<ChangeReplay> replay(String topic, String epoch, long since) {
+        ChangeLog log = logs.get(topic);
+        return (log != null ? log : new ChangeLog(this.epoch, replayCapacity)).since(epoch, since);
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.broadcast.window-ms:100}")
+    public void flush() {
+        // not a monitor: in relay mode the sends block on the broker connection
+        flushing.lock();
+        try {
+            pending.forEach(this::send);
+        } finally {
+            flushing.unlock();
+        }
+    }
+
+    private void send(String topic, Map<Long, PendingChange> changes) {
+        Map<Long, PendingChange> batch;
+        synchronized (changes) {
+            if (changes.isEmpty()) {
+                return;
+            }
+            batch = new LinkedHashMap<>(changes);
+            changes.clear();
+        }
+        ChangeLog log = logs.computeIfAbsent(topic, t -> new ChangeLog(epoch, replayCapacity));
+        List<ChangeEvent> events = new ArrayList<>(batch.size());
+        batch.forEach((id, change) -> events.add(log.append(change.op(), id, change.changes())));
+        long started = System.nanoTime();
+        messagingTemplate.convertAndSend(topic, events);
+        if (binaryTemplate != null) {
+            binaryTemplate.convertAndSend(topic + BINARY_SUFFIX, events);
+        }
+        TopicMeters topicMeters = meters.computeIfAbsent(topic, this::topicMeters);
+        topicMeters.sends().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        topicMeters.events().increment(events.size());
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private TopicMeters topicMeters(String topic) {
+        return new TopicMeters(
+                Timer.builder("websocket.broadcast").tag("topic", topic).register(meterRegistry),
+                Counter.builder("websocket.broadcast.events").tag("topic", topic).register(meterRegistry));
+    }
+
+    private void enqueue(String topic, Long id, PendingChange change) {
+        Map<Long, PendingChange> changes = pending.computeIfAbsent(topic, t -> new LinkedHashMap<>());
+        synchronized (changes) {
+            changes.merge(id, change, PendingChange::then);
+        }
+    }
+
+    private record TopicMeters(Timer sends, Counter events) {}
+
+    private record PendingChange(ChangeEvent.Op op, Map<String, Object> changes) {
+
+        @SuppressWarnings("unchecked")
+        PendingChange then(PendingChange next) {
+            if (op == ChangeEvent.Op.imported) {
+                List<Long> ids = new ArrayList<>((List<Long>) changes.get("ids"));
+                ids.addAll((List<Long>) next.changes.get("ids"));
+                return new PendingChange(op, Map.of("count", ids.size(), "ids", ids));
+            }
+            if (op == ChangeEvent.Op.deleted || next.op == ChangeEvent.Op.deleted) {
+                return next;
+            }
+            Map<String, Object> merged = new LinkedHashMap<>(changes);
+            merged.putAll(next.changes);
+            return new PendingChange(op == ChangeEvent.Op.created ? op : next.op, merged);
+        }
+    }
+}
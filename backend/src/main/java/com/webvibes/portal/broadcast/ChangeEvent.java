@@ -0,0 +1,19 @@
+package com.webvibes.portal.broadcast;
+
+import java.util.Map;
+
+/**
+ * Envelope pushed on a change topic. {@code changes} carries every field for a
+ * created entity, only the modified fields for an update and nothing for a delete.
+ * An {@code imported} event summarises a bulk import: it has no id and its
+ * changes hold the {@code count} and {@code ids} of the inserted rows.
+ * <p>
+ * {@code seq} counts per topic on the node that published the event, and
+ * {@code epoch} names that counter: it differs per node and per restart, so
+ * with a broker relay a client sees several epochs on one topic and must only
+ * compare (and resume from) sequence numbers within the same epoch.
+ */
+public record ChangeEvent(String epoch, long seq, Op op, Long id, Map<String, Object> changes) {
+
+    public enum Op { created, updated, deleted, imported }
+}
@@ -0,0 +1,52 @@
+package com.webvibes.portal.broadcast;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-topic sequence counter plus a bounded ring of the most recent events,
+ * used to let reconnecting clients catch up without a full reload. Both live
+ * in this node's memory and are only meaningful together with the epoch.
+ */
+class ChangeLog {
+    private final String epoch;
+    private final int capacity;
+    private final Deque<ChangeEvent> events = new ArrayDeque<>();
+    private long latestSeq;
+
+    ChangeLog(String epoch, int capacity) {
+        this.epoch = epoch;
+        this.capacity = capacity;
+    }
+
+    synchronized ChangeEvent append(ChangeEvent.Op op, Long id, Map<String, Object> changes) {
+        ChangeEvent event = new ChangeEvent(epoch, ++latestSeq, op, id, changes);
+        if (events.size() == capacity) {
+            events.removeFirst();
+        }
+        events.addLast(event);
+        return event;
+    }
+
+    /**
+     * Events after {@code since}, or empty if some of them have already been
+     * evicted, or the sequence belongs to another epoch (another node, or this
+     * one before a restart), and the caller has to reload instead.
+     */
+    synchronized Optional<ChangeReplay> since(String epoch, long since) {
+        if ((epoch != null && !epoch.equals(this.epoch)) || since > latestSeq || (since < latestSeq && since + 1 < events.peekFirst().seq())) {
+            return Optional.empty();
+        }
+        List<ChangeEvent> missed = new ArrayList<>();
+        for (ChangeEvent event : events) {
+            if (event.seq() > since) {
+                missed.add(event);
+            }
+        }
+        return Optional.of(new ChangeReplay(epoch, latestSeq, missed));
+    }
+}
@@ -0,0 +1,5 @@
+package com.webvibes.portal.broadcast;
+
+import java.util.List;
+
+public record ChangeReplay(String epoch, long latestSeq, List<ChangeEvent> events) {}
@@ -0,0 +1,253 @@
+package com.webvibes.portal.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-memory, versioned copy of an active catalog (internships, courses).
+ * Reads are served from an immutable view; writes through the owning service
+ * patch the view in place, and a full reload from the loader happens at most
+ * once per {@code maxStaleness} to pick up changes made outside the service.
+ * <p>
+ * The loader runs outside the lock that guards the view. Only one thread
+ * reloads a stale view while everyone else keeps reading the old one, and
+ * patches made during the load are replayed on top of its result so a reload
+ * never undoes a write. Only the very first load blocks readers.
+ * <p>
+ * Every patch copies the view into a new {@code TreeMap} and list, O(n) per
+ * write: cheap for catalogs of a few thousand rows that are read far more than
+ * written, but bulk changes should go through {@link #putAll} in one call.
+ */
+public class CatalogSnapshot<T> {
+
+    public record View<T>(long version, List<T> items, int contentHash, long loadedAt) {
+    }
+
+    /**
+     * Notified, under the snapshot's lock, of every change to the view so
+     * derived structures can be maintained incrementally.
+     */
+    public interface Listener<T> {
+
+        void reloaded(List<T> items);
+
+        void changed(Collection<T> upserted, Collection<Long> removed);
+    }
+
+    private final Supplier<List<T>> loader;
+    private final Function<T, Long> idOf;
+    private final Predicate<T> included;
+    private final long maxStalenessNanos;
+    private final AtomicLong versions = new AtomicLong();
+    private final List<Listener<T>> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock loading = new ReentrantLock();
+
+    private volatile View<T> current;
+    // Patches applied while a load is running (null value = removed); replayed onto the loaded rows
+    private Map<Long, T> patchedDuringLoad;
+
+    public CatalogSnapshot(Supplier<List<T>> loader, Function<T, Long> idOf, Predicate<T> included,
+                           Duration maxStaleness) {
+        this.loader = loader;
+        this.idOf = idOf;
+        this.included = included;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+    }
+
+    public void addListener(Listener<T> listener) {
+        lock.lock();
+        try {
+            listeners.add(listener);
+            if (current != null) {
+                listener.reloaded(current.items());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public View<T> view() {
+        View<T> view = current;
+        if (view == null) {
+            return load(true);
+        }
+        if (isStale(view)) {
+            View<T> reloaded = load(false);
+            return reloaded != null ? reloaded : view;
+        }
+        return view;
+    }
+
+    public List<T> items() {
+        return view().items();
+    }
+
+    public long version() {
+        return view().version();
+    }
+
+    public void put(T item) {
+        putAll(List.of(item));
+    }
+
+    public void putAll(Collection<T> items) {
+        lock.lock();
+        try {
+            for (T item : items) {
+                patched(idOf.apply(item), included.test(item) ? item : null);
+            }
+            View<T> view = current;
+            if (view == null) {
+                return;
+            }
+            TreeMap<Long, T> byId = index(view.items());
+            List<T> upserted = new ArrayList<>();
+            List<Long> removed = new ArrayList<>();
+            for (T item : items) {
+                Long id = idOf.apply(item);
+                if (included.test(item)) {
+                    byId.put(id, item);
+                    upserted.add(item);
+                } else if (byId.remove(id) != null) {
+                    removed.add(id);
+                }
+            }
+            if (!upserted.isEmpty() || !removed.isEmpty()) {
+                install(byId, view.loadedAt());
+                listeners.forEach(listener -> listener.changed(upserted, removed));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.lock();
+        try {
+            patched(id, null);
+            View<T> view = current;
+            if (view == null) {
+                return;
+            }
+            TreeMap<Long, T> byId = index(view.items());
+            if (byId.remove(id) != null) {
+                install(byId, view.loadedAt());
+                listeners.forEach(listener -> listener.changed(List.of(), List.of(id)));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        lock.lock();
+        try {
+            current = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs the loader without holding {@link #lock}. With {@code wait} false a
+     * caller that finds another load in progress gets {@code null} and keeps
+     * the stale view.
+     */
+    private View<T> load(boolean wait) {
+        if (wait) {
+            loading.lock();
+        } else if (!loading.tryLock()) {
+            return null;
+        }
+        try {
+            View<T> view = current;
+            if (view != null && !isStale(view)) {
+                return view;
+            }
+            lock.lock();
+            try {
+                patchedDuringLoad = new HashMap<>();
+            } finally {
+                lock.unlock();
+            }
+            List<T> loaded;
+            try {
+                loaded = loader.get();
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    patchedDuringLoad = null;
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+            return installLoaded(loaded);
+        } finally {
+            loading.unlock();
+        }
+    }
+
+    private View<T> installLoaded(List<T> loaded) {
+        lock.lock();
+        try {
+            TreeMap<Long, T> byId = index(loaded);
+            patchedDuringLoad.forEach((id, item) -> {
+                if (item == null) {
+                    byId.remove(id);
+                } else {
+                    byId.put(id, item);
+                }
+            });
+            patchedDuringLoad = null;
+            View<T> view = current;
+            long now = System.nanoTime();
+            if (view != null && view.items().equals(new ArrayList<>(byId.values()))) {
+                current = new View<>(view.version(), view.items(), view.contentHash(), now);
+                return current;
+            }
+            View<T> installed = install(byId, now);
+            listeners.forEach(listener -> listener.reloaded(installed.items()));
+            return installed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void patched(Long id, T item) {
+        if (patchedDuringLoad != null) {
+            patchedDuringLoad.put(id, item);
+        }
+    }
+
+    private View<T> install(TreeMap<Long, T> byId, long loadedAt) {
+        List<T> items = Collections.unmodifiableList(new ArrayList<>(byId.values()));
+        current = new View<>(versions.incrementAndGet(), items, items.hashCode(), loadedAt);
+        return current;
+    }
+
+    private TreeMap<Long, T> index(List<T> items) {
+        TreeMap<Long, T> byId = new TreeMap<>();
+        for (T item : items) {
+            byId.put(idOf.apply(item), item);
+        }
+        return byId;
+    }
+
+    private boolean isStale(View<T> view) {
+        return System.nanoTime() - view.loadedAt() >= maxStalenessNanos;
+    }
+}
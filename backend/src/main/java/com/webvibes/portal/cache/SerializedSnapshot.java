@@ -0,0 +1,110 @@
+package com.webvibes.portal.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON body of a {@link CatalogSnapshot}, serialised and gzipped once per view
+ * version so catalog reads write prepared bytes instead of re-running Jackson
+ * and the compressor on every request. A new view is encoded on the first
+ * read after it is installed.
+ * <p>
+ * The ETag is a SHA-256 of the JSON bytes, not the view version: versions are
+ * counted per node, and instances behind a load balancer serving the same
+ * catalog must hand out the same validator.
+ */
+public class SerializedSnapshot<T> {
+
+    public record Body(String etag, byte[] identity, byte[] gzip) {
+
+        /** Encoded variants of the same view need different strong validators. */
+        public String etag(boolean gzipped) {
+            return gzipped ? etag + "-gzip" : etag;
+        }
+    }
+
+    private record Encoded(long version, Body body) {
+    }
+
+    private final CatalogSnapshot<T> snapshot;
+    private final ObjectWriter writer;
+
+    private volatile Encoded current;
+
+    public SerializedSnapshot(CatalogSnapshot<T> snapshot, ObjectWriter writer) {
+        this.snapshot = snapshot;
+        this.writer = writer;
+    }
+
+    public Body body() {
+        CatalogSnapshot.View<T> view = snapshot.view();
+        Encoded encoded = current;
+        if (encoded != null && encoded.version() == view.version()) {
+            return encoded.body();
+        }
+        return encode(view);
+    }
+
+    /** Whether an {@code Accept-Encoding} header admits gzip (a zero q-value refuses it). */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private synchronized Body encode(CatalogSnapshot.View<T> view) {
+        Encoded encoded = current;
+        if (encoded != null && encoded.version() == view.version()) {
+            return encoded.body();
+        }
+        Body body;
+        try {
+            byte[] identity = writer.writeValueAsBytes(view.items());
+            body = new Body(sha256(identity), identity, gzip(identity));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise catalog view " + view.version(), e);
+        }
+        current = new Encoded(view.version(), body);
+        return body;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,52 @@
+package com.webvibes.portal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.cache.CatalogSnapshot;
+import com.webvibes.portal.cache.SerializedSnapshot;
+import com.webvibes.portal.model.Course;
+import com.webvibes.portal.model.Internship;
+import com.webvibes.portal.repository.CourseRepository;
+import com.webvibes.portal.repository.InternshipRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-memory catalog snapshots. Reloads go through {@link PrimaryReads}: a
+ * reload from a lagging replica would drop rows the snapshot was just patched
+ * with.
+ */
+@Configuration
+public class CatalogCacheConfig {
+
+    @Value("${catalog.cache.max-staleness:PT30S}")
+    private Duration maxStaleness;
+
+    @Bean
+    public CatalogSnapshot<Internship> activeInternships(InternshipRepository repository, PrimaryReads primaryReads) {
+        return new CatalogSnapshot<>(() -> primaryReads.get(repository::findByActiveTrue),
+                Internship::getId, Internship::isActive, maxStaleness);
+    }
+
+    @Bean
+    public CatalogSnapshot<Course> activeCourses(CourseRepository repository, PrimaryReads primaryReads) {
+        return new CatalogSnapshot<>(() -> primaryReads.get(repository::findByActiveTrue),
+                Course::getId, Course::isActive, maxStaleness);
+    }
+
+    @Bean
+    public SerializedSnapshot<Internship> activeInternshipsJson(CatalogSnapshot<Internship> activeInternships,
+                                                                ObjectMapper objectMapper) {
+        return new SerializedSnapshot<>(activeInternships, objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, Internship.class)));
+    }
+
+    @Bean
+    public SerializedSnapshot<Course> activeCoursesJson(CatalogSnapshot<Course> activeCourses, ObjectMapper objectMapper) {
+        return new SerializedSnapshot<>(activeCourses, objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, Course.class)));
+    }
+}
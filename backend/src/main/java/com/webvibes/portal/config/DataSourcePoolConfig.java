@@ -0,0 +1,50 @@
+package com.webvibes.portal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Driver options the code relies on, added by JDBC URL rather than through
+ * spring.datasource.hikari.data-source-properties because the names differ per
+ * driver (and H2 rejects unknown ones). This way they hold whatever
+ * SPRING_DATASOURCE_URL a deployment sets: prepared statement caching, and on
+ * MySQL server-side cursors so the streaming exports' fetch size is honoured
+ * instead of the whole result set being buffered, and multi-row INSERTs so
+ * Hibernate's JDBC batches are not sent one statement per row.
+ */
+@Configuration
+public class DataSourcePoolConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCachePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && dataSource.getJdbcUrl() != null) {
+                    configure(dataSource, environment);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static void configure(HikariDataSource dataSource, Environment environment) {
+        String cacheSize = environment.getProperty("datasource.statement-cache.size", "250");
+        if (dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            dataSource.addDataSourceProperty("useCursorFetch", "true");
+            dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+            dataSource.addDataSourceProperty("cachePrepStmts", "true");
+            dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+            dataSource.addDataSourceProperty("prepStmtCacheSize", cacheSize);
+            dataSource.addDataSourceProperty("prepStmtCacheSqlLimit",
+                    environment.getProperty("datasource.statement-cache.sql-limit", "2048"));
+        } else if (dataSource.getJdbcUrl().startsWith("jdbc:postgresql:")) {
+            dataSource.addDataSourceProperty("prepareThreshold",
+                    environment.getProperty("datasource.statement-cache.prepare-threshold", "3"));
+            dataSource.addDataSourceProperty("preparedStatementCacheQueries", cacheSize);
+        }
+    }
+}
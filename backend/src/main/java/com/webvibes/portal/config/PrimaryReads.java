@@ -0,0 +1,34 @@
+package com.webvibes.portal.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs reads that must see the latest writes (reloads of in-memory state) in
+ * a read-write transaction, so {@link ReplicaRoutingConfig} keeps them on the
+ * primary. A read-write transaction already in progress is joined; inside a
+ * read-only one, whose connection may be a replica's, a new transaction is
+ * started.
+ */
+@Component
+public class PrimaryReads {
+
+    private final TransactionTemplate joining;
+    private final TransactionTemplate separate;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager) {
+        this.joining = new TransactionTemplate(transactionManager);
+        this.separate = new TransactionTemplate(transactionManager);
+        this.separate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T get(Supplier<T> query) {
+        TransactionTemplate template = TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? separate : joining;
+        return template.execute(status -> query.get());
+    }
+}
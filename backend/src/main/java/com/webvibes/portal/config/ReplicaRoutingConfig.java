@@ -0,0 +1,77 @@
+package com.webvibes.portal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read/write split, active when {@code datasource.replicas.urls} is set.
+ * The application DataSource is a lazy proxy over the primary pool: it only
+ * fetches a real connection at the first statement, by which time a
+ * {@code @Transactional(readOnly = true)} boundary has marked it read-only,
+ * and read-only connections are taken from {@link ReplicaRoutingDataSource}.
+ * Flyway, all writes and the reloads of in-memory state (catalog snapshots,
+ * submission stats, see {@link PrimaryReads}) stay on the primary.
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replicas.urls:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                                      @Value("${datasource.replicas.urls}") String urls,
+                                                      @Value("${datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                                      @Value("${datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                                      @Value("${datasource.replicas.max-lag-ms:5000}") long maxLagMs,
+                                                      @Value("${datasource.replicas.lag-query:}") String lagQuery,
+                                                      MeterRegistry registry) {
+        List<String> replicaUrls = Arrays.stream(urls.split(",")).map(String::trim).filter(u -> !u.isEmpty()).toList();
+        if (replicaUrls.isEmpty()) {
+            throw new IllegalStateException("datasource.replicas.urls lists no JDBC URL: '" + urls + "'");
+        }
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setPoolName(primaryDataSource.getPoolName() + "-replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url);
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setReadOnly(true);
+            if (replica.getMetricsTrackerFactory() == null) {
+                replica.setMetricRegistry(registry);
+            }
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                ReplicaRoutingDataSource.LagProbe.forUrl(replicas.get(0).getJdbcUrl(), lagQuery),
+                Duration.ofMillis(maxLagMs), registry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
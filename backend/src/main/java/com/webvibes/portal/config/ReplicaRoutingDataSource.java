@@ -0,0 +1,169 @@
+package com.webvibes.portal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only side of the read/write split. Connections come from the replica
+ * pools in turn, skipping any replica whose last lag check failed or found it
+ * more than {@code maxLag} behind; when none is usable the primary serves the
+ * read instead. Lag is re-checked on a fixed delay.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, AutoCloseable {
+
+    /**
+     * How a replica reports its lag: a query whose {@code column} (or first
+     * column when null) holds the lag in seconds. No row means the database
+     * is not replicating and counts as no lag; a NULL value means replication
+     * is stopped. A null query only checks that the replica answers.
+     */
+    public record LagProbe(String query, String column) {
+
+        public static LagProbe forUrl(String jdbcUrl, String override) {
+            if (override != null && !override.isBlank()) {
+                return new LagProbe(override, null);
+            }
+            if (jdbcUrl.startsWith("jdbc:mysql:")) {
+                return new LagProbe("SHOW REPLICA STATUS", "Seconds_Behind_Source");
+            }
+            if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+                return new LagProbe("SELECT CASE WHEN NOT pg_is_in_recovery()"
+                        + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+                        + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END", null);
+            }
+            return new LagProbe(null, null);
+        }
+
+        Double lagSeconds(Connection connection) throws SQLException {
+            if (query == null) {
+                return connection.isValid(2) ? 0d : null;
+            }
+            try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(query)) {
+                if (!rs.next()) {
+                    return 0d;
+                }
+                double lag = column == null ? rs.getDouble(1) : rs.getDouble(column);
+                return rs.wasNull() ? null : lag;
+            }
+        }
+    }
+
+    private static final class Replica {
+        final HikariDataSource pool;
+        volatile boolean usable = true;
+        volatile double lagSeconds;
+
+        Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final LagProbe probe;
+    private final Duration maxLag;
+    private final Counter fallbacks;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, LagProbe probe,
+                                    Duration maxLag, MeterRegistry registry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.probe = probe;
+        this.maxLag = maxLag;
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because no replica was usable")
+                .register(registry);
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.usable ? r.lagSeconds : Double.NaN)
+                    .tag("pool", replica.pool.getPoolName())
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checkLag();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        int start = next.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (!replica.usable) {
+                continue;
+            }
+            try {
+                return source.get(replica.pool);
+            } catch (SQLException e) {
+                replica.usable = false;
+                log.warn("Replica {} unavailable, skipping it until the next lag check: {}",
+                        replica.pool.getPoolName(), e.getMessage());
+            }
+        }
+        fallbacks.increment();
+        return source.get(primary);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval-ms:2000}",
+            initialDelayString = "${datasource.replicas.lag-check-interval-ms:2000}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            Double lag;
+            try (Connection connection = replica.pool.getConnection()) {
+                lag = probe.lagSeconds(connection);
+            } catch (SQLException e) {
+                log.debug("Lag check failed on replica {}", replica.pool.getPoolName(), e);
+                lag = null;
+            }
+            boolean usable = lag != null && lag * 1000 <= maxLag.toMillis();
+            if (usable != replica.usable) {
+                log.info("Replica {} is {} (lag {}s)", replica.pool.getPoolName(),
+                        usable ? "back in rotation" : "out of rotation", lag);
+            }
+            replica.lagSeconds = lag == null ? Double.NaN : lag;
+            replica.usable = usable;
+        }
+    }
+
+    public boolean hasUsableReplica() {
+        return replicas.stream().anyMatch(r -> r.usable);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(r -> r.pool.close());
+    }
+}
@@ -0,0 +1,53 @@
+package com.webvibes.portal.config;
+
+import com.webvibes.portal.cache.CatalogSnapshot;
+import com.webvibes.portal.model.Course;
+import com.webvibes.portal.model.Internship;
+import com.webvibes.portal.search.FacetIndex;
+import com.webvibes.portal.search.SearchIndex;
+import com.webvibes.portal.search.SearchIndex.Field;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public SearchIndex<Internship> internshipSearch(CatalogSnapshot<Internship> activeInternships) {
+        return new SearchIndex<>(activeInternships, Internship::getId, List.of(
+                new Field<>(Internship::getTitle, 3),
+                new Field<>(Internship::getDepartment, 2),
+                new Field<>(Internship::getLocation, 2),
+                new Field<>(Internship::getDescription, 1)));
+    }
+
+    @Bean
+    public SearchIndex<Course> courseSearch(CatalogSnapshot<Course> activeCourses) {
+        return new SearchIndex<>(activeCourses, Course::getId, List.of(
+                new Field<>(Course::getTitle, 3),
+                new Field<>(Course::getInstructor, 2),
+                new Field<>(Course::getCategory, 2),
+                new Field<>(Course::getDescription, 1)));
+    }
+
+    @Bean
+    public FacetIndex<Internship> internshipFacets(CatalogSnapshot<Internship> activeInternships) {
+        Map<String, Function<Internship, ?>> facets = new LinkedHashMap<>();
+        facets.put("department", Internship::getDepartment);
+        facets.put("location", Internship::getLocation);
+        facets.put("durationWeeks", Internship::getDurationWeeks);
+        return new FacetIndex<>(activeInternships, Internship::getId, facets);
+    }
+
+    @Bean
+    public FacetIndex<Course> courseFacets(CatalogSnapshot<Course> activeCourses) {
+        Map<String, Function<Course, ?>> facets = new LinkedHashMap<>();
+        facets.put("category", Course::getCategory);
+        return new FacetIndex<>(activeCourses, Course::getId, facets);
+    }
+}
@@ -0,0 +1,141 @@
+package com.webvibes.portal.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Session-level metrics for the STOMP endpoint: open sessions, time spent writing
+ * each frame to a client, sessions the broker dropped because they could not
+ * keep up with the send time or buffer limits, and subscribers per destination.
+ * At most {@value #MAX_DESTINATIONS} destinations get their own
+ * {@code websocket.subscribers} gauge; the rest are counted under {@code other}.
+ */
+@Component
+public class WebSocketSessionMetrics implements WebSocketHandlerDecoratorFactory {
+    static final int MAX_DESTINATIONS = 64;
+
+    private final MeterRegistry registry;
+    private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private final Timer sendTimer;
+    private final Counter dropped;
+    private final Counter closed;
+
+    public WebSocketSessionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        registry.gauge("websocket.sessions.open", open);
+        this.sendTimer = Timer.builder("websocket.sessions.send")
+                .description("Time to write one frame to a client")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.dropped = Counter.builder("websocket.sessions.dropped")
+                .description("Sessions closed for exceeding the send time or buffer limit")
+                .register(registry);
+        this.closed = registry.counter("websocket.sessions.closed");
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                open.incrementAndGet();
+                super.afterConnectionEstablished(new TimedSession(session));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+                open.decrementAndGet();
+                closed.increment();
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(status)) {
+                    dropped.increment();
+                }
+                super.afterConnectionClosed(session, status);
+            }
+        };
+    }
+
+    @EventListener
+    public void subscribed(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || destination == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String previous = subscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), destination);
+        if (previous != null) {
+            subscribers(previous).decrementAndGet();
+        }
+        subscribers(destination).incrementAndGet();
+    }
+
+    @EventListener
+    public void unsubscribed(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> session = accessor.getSessionId() == null ? null : subscriptions.get(accessor.getSessionId());
+        String destination = session == null || accessor.getSubscriptionId() == null
+                ? null : session.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            subscribers(destination).decrementAndGet();
+        }
+    }
+
+    @EventListener
+    public void disconnected(SessionDisconnectEvent event) {
+        Map<String, String> session = subscriptions.remove(event.getSessionId());
+        if (session != null) {
+            session.values().forEach(destination -> subscribers(destination).decrementAndGet());
+        }
+    }
+
+    private AtomicInteger subscribers(String destination) {
+        AtomicInteger count = subscribers.get(destination);
+        if (count != null) {
+            return count;
+        }
+        String tag = subscribers.size() < MAX_DESTINATIONS ? destination : "other";
+        return subscribers.computeIfAbsent(tag,
+                d -> registry.gauge("websocket.subscribers", Tags.of("destination", d), new AtomicInteger()));
+    }
+
+    private class TimedSession extends WebSocketSessionDecorator {
+
+        TimedSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            long started = System.nanoTime();
+            try {
+                super.sendMessage(message);
+            } finally {
+                sendTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.webvibes.portal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.broadcast.ChangeBroadcaster;
+import com.webvibes.portal.ingest.JpaBatchWriter;
+import com.webvibes.portal.ingest.JsonLinesSpill;
+import com.webvibes.portal.ingest.WriteBehindQueue;
+import com.webvibes.portal.model.Application;
+import com.webvibes.portal.model.ContactMessage;
+import com.webvibes.portal.service.ApplicationService;
+import com.webvibes.portal.stats.SubmissionStats;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Optional write-behind mode for public submissions: applications and contact
+ * messages are acknowledged once queued and inserted in JDBC batches. Rows
+ * still unwritten when the shutdown timeout runs out are kept in
+ * {@code <spill-dir>/<queue>.jsonl} and written after the next start.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ingest.write-behind.enabled", havingValue = "true")
+public class WriteBehindConfig {
+
+    @Value("${ingest.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${ingest.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${ingest.write-behind.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${ingest.write-behind.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    @Value("${ingest.write-behind.spill-dir:data/write-behind}")
+    private Path spillDir;
+
+    @Bean
+    public WriteBehindQueue<Application> applicationWriteBehind(EntityManager entityManager,
+                                                                TransactionTemplate transactionTemplate,
+                                                                ChangeBroadcaster changeBroadcaster,
+                                                                SubmissionStats submissionStats,
+                                                                ObjectMapper objectMapper) {
+        return new WriteBehindQueue<>("applications", queueCapacity, batchSize, maxAttempts,
+                new JpaBatchWriter<>(entityManager, transactionTemplate),
+                written -> written.forEach(application -> {
+                    submissionStats.applicationAdded(application.getInternshipId(), application.getAppliedAt());
+                    changeBroadcaster.created(ApplicationService.TOPIC, application.getId(), application);
+                }),
+                Duration.ofMillis(shutdownTimeoutMs),
+                new JsonLinesSpill<>(spillDir.resolve("applications.jsonl"), Application.class, objectMapper));
+    }
+
+    @Bean
+    public WriteBehindQueue<ContactMessage> contactMessageWriteBehind(EntityManager entityManager,
+                                                                      TransactionTemplate transactionTemplate,
+                                                                      ObjectMapper objectMapper) {
+        return new WriteBehindQueue<>("contact messages", queueCapacity, batchSize, maxAttempts,
+                new JpaBatchWriter<>(entityManager, transactionTemplate), written -> {},
+                Duration.ofMillis(shutdownTimeoutMs),
+                new JsonLinesSpill<>(spillDir.resolve("contact-messages.jsonl"), ContactMessage.class, objectMapper));
+    }
+}
@@ -1,12 +1,24 @@
 package com.webvibes.portal.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.export.CsvColumn;
+import com.webvibes.portal.export.ExportFormat;
+import com.webvibes.portal.export.ExportWriter;
 import com.webvibes.portal.model.Application;
+import com.webvibes.portal.model.ApplicationSummary;
+import com.webvibes.portal.paging.Cursor;
+import com.webvibes.portal.paging.CursorPage;
 import com.webvibes.portal.service.ApplicationService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 
@@ -16,18 +28,72 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:4200", allowCredentials = "true")
 public class ApplicationController {
 
+    private static final List<CsvColumn<Application>> CSV_COLUMNS = List.of(
+            new CsvColumn<>("id", Application::getId),
+            new CsvColumn<>("internshipId", Application::getInternshipId),
+            new CsvColumn<>("fullName", Application::getFullName),
+            new CsvColumn<>("email", Application::getEmail),
+            new CsvColumn<>("phone", Application::getPhone),
+            new CsvColumn<>("resumeUrl", Application::getResumeUrl),
+            new CsvColumn<>("coverLetter", Application::getCoverLetter),
+            new CsvColumn<>("appliedAt", Application::getAppliedAt));
+
     private final ApplicationService applicationService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     public List<Application> listAll() { return applicationService.listAll(); }
 
+    @GetMapping(params = "limit")
+    public CursorPage<Application> listPage(@RequestParam int limit, @RequestParam(required = false) String cursor) {
+        return applicationService.listPage(Cursor.decode(cursor), CursorPage.clamp(limit));
+    }
+
+    @GetMapping(params = "view=summary")
+    public List<ApplicationSummary> listSummaries() { return applicationService.listSummaries(); }
+
+    @GetMapping(params = {"limit", "view=summary"})
+    public CursorPage<ApplicationSummary> listSummaryPage(@RequestParam int limit,
+                                                         @RequestParam(required = false) String cursor) {
+        return applicationService.listSummaryPage(Cursor.decode(cursor), CursorPage.clamp(limit));
+    }
+
     @GetMapping("/internship/{internshipId}")
     public List<Application> listByInternship(@PathVariable Long internshipId) {
         return applicationService.listByInternship(internshipId);
     }
 
+    @GetMapping(value = "/internship/{internshipId}", params = "view=summary")
+    public List<ApplicationSummary> listSummariesByInternship(@PathVariable Long internshipId) {
+        return applicationService.listSummariesByInternship(internshipId);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Application> get(@PathVariable Long id) {
+        return applicationService.get(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(exportFormat.fileName("applications")).build().toString());
+        try (ExportWriter<Application> writer = ExportWriter.open(exportFormat, response.getOutputStream(), objectMapper, CSV_COLUMNS)) {
+            applicationService.exportAll(writer);
+        }
+    }
+
     @PostMapping
     public ResponseEntity<Application> create(@Valid @RequestBody Application application) {
+        if (applicationService.isWriteBehind()) {
+            return applicationService.submit(application)
+                    ? ResponseEntity.accepted().body(application)
+                    : ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
         Application saved = applicationService.create(application);
         return ResponseEntity.created(URI.create("/api/applications/" + saved.getId())).body(saved);
     }
@@ -0,0 +1,31 @@
+package com.webvibes.portal.controller;
+
+import com.webvibes.portal.broadcast.ChangeBroadcaster;
+import com.webvibes.portal.broadcast.ChangeReplay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:4200", allowCredentials = "true")
+public class ChangeController {
+
+    private static final Set<String> TOPICS = Set.of("internships", "courses", "applications");
+
+    private final ChangeBroadcaster changeBroadcaster;
+
+    @GetMapping("/{topic}")
+    public ChangeReplay replay(@PathVariable String topic, @RequestParam(defaultValue = "0") long since,
+                               @RequestParam(required = false) String epoch) {
+        if (!TOPICS.contains(topic)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown topic: " + topic);
+        }
+        return changeBroadcaster.replay("/topic/" + topic, epoch, since)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.GONE, "Changes since " + since + " are no longer available"));
+    }
+}
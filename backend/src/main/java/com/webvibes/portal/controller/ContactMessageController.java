@@ -1,9 +1,13 @@
 package com.webvibes.portal.controller;
 
 import com.webvibes.portal.model.ContactMessage;
+import com.webvibes.portal.paging.Cursor;
+import com.webvibes.portal.paging.CursorPage;
 import com.webvibes.portal.service.ContactMessageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,8 +25,18 @@ public class ContactMessageController {
     @GetMapping
     public List<ContactMessage> listAll() { return service.listAll(); }
 
+    @GetMapping(params = "limit")
+    public CursorPage<ContactMessage> listPage(@RequestParam int limit, @RequestParam(required = false) String cursor) {
+        return service.listPage(Cursor.decode(cursor), CursorPage.clamp(limit));
+    }
+
     @PostMapping
     public ResponseEntity<ContactMessage> create(@Valid @RequestBody ContactMessage msg) {
+        if (service.isWriteBehind()) {
+            return service.submit(msg)
+                    ? ResponseEntity.accepted().body(msg)
+                    : ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
         ContactMessage saved = service.create(msg);
         return ResponseEntity.created(URI.create("/api/contact/" + saved.getId())).body(saved);
     }
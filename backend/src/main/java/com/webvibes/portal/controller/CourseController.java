@@ -1,12 +1,23 @@
 package com.webvibes.portal.controller;
 
+import com.webvibes.portal.cache.SerializedSnapshot;
+import com.webvibes.portal.ingest.ImportResult;
 import com.webvibes.portal.model.Course;
+import com.webvibes.portal.paging.Cursor;
+import com.webvibes.portal.paging.CursorPage;
+import com.webvibes.portal.search.FacetedResult;
 import com.webvibes.portal.service.CourseService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -21,8 +32,36 @@ public class CourseController {
     @GetMapping
     public List<Course> listAll() { return courseService.listAll(); }
 
+    @GetMapping(params = "limit")
+    public CursorPage<Course> listPage(@RequestParam int limit, @RequestParam(required = false) String cursor) {
+        return courseService.listPage(Cursor.decode(cursor), CursorPage.clamp(limit));
+    }
+
     @GetMapping("/active")
-    public List<Course> listActive() { return courseService.listActive(); }
+    public ResponseEntity<byte[]> listActive(WebRequest request) {
+        SerializedSnapshot.Body body = courseService.activeBody();
+        boolean gzip = SerializedSnapshot.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.checkNotModified(body.etag(gzip))) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(body.etag(gzip))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        return gzip ? ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip()) : ok.body(body.identity());
+    }
+
+    @GetMapping("/search")
+    public List<Course> search(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        return courseService.search(q, CursorPage.clamp(limit));
+    }
+
+    @GetMapping("/facets")
+    public FacetedResult<Course> facets(@RequestParam MultiValueMap<String, String> params,
+                                        @RequestParam(defaultValue = "20") int limit) {
+        return courseService.facets(params, CursorPage.clamp(limit));
+    }
 
     @GetMapping("/{id}")
     public ResponseEntity<Course> get(@PathVariable Long id) {
@@ -35,6 +74,16 @@ public class CourseController {
         return ResponseEntity.created(URI.create("/api/courses/" + saved.getId())).body(saved);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResult> importJson(@RequestBody List<Course> courses) {
+        return imported(courseService.importAll(courses));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportResult> importCsv(InputStream body) {
+        return imported(courseService.importCsv(body));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Course> update(@PathVariable Long id, @Valid @RequestBody Course course) {
         return courseService.update(id, course).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
@@ -45,4 +94,8 @@ public class CourseController {
         courseService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<ImportResult> imported(ImportResult result) {
+        return result.ok() ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+    }
 }
@@ -1,32 +1,89 @@
 package com.webvibes.portal.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.export.CsvColumn;
+import com.webvibes.portal.export.ExportFormat;
+import com.webvibes.portal.export.ExportWriter;
 import com.webvibes.portal.model.CourseEnrollment;
+import com.webvibes.portal.model.CourseEnrollmentSummary;
+import com.webvibes.portal.model.CourseEnrollmentView;
 import com.webvibes.portal.service.CourseEnrollmentService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/course-enrollments")
 public class CourseEnrollmentController {
     
+    private static final List<CsvColumn<CourseEnrollmentView>> CSV_COLUMNS = List.of(
+        new CsvColumn<>("id", CourseEnrollmentView::id),
+        new CsvColumn<>("courseId", e -> e.course().id()),
+        new CsvColumn<>("courseTitle", e -> e.course().title()),
+        new CsvColumn<>("fullName", CourseEnrollmentView::fullName),
+        new CsvColumn<>("email", CourseEnrollmentView::email),
+        new CsvColumn<>("phone", CourseEnrollmentView::phone),
+        new CsvColumn<>("address", CourseEnrollmentView::address),
+        new CsvColumn<>("qualification", CourseEnrollmentView::qualification),
+        new CsvColumn<>("institution", CourseEnrollmentView::institution),
+        new CsvColumn<>("experience", CourseEnrollmentView::experience),
+        new CsvColumn<>("motivation", CourseEnrollmentView::motivation),
+        new CsvColumn<>("enrolledAt", CourseEnrollmentView::enrolledAt)
+    );
+    
     @Autowired
     private CourseEnrollmentService enrollmentService;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @GetMapping
-    public List<CourseEnrollment> getAllEnrollments() {
+    public List<CourseEnrollmentView> getAllEnrollments() {
         return enrollmentService.getAllEnrollments();
     }
     
     @GetMapping("/course/{courseId}")
-    public List<CourseEnrollment> getEnrollmentsByCourse(@PathVariable Long courseId) {
+    public List<CourseEnrollmentView> getEnrollmentsByCourse(@PathVariable Long courseId) {
         return enrollmentService.getEnrollmentsByCourse(courseId);
     }
     
+    @GetMapping(params = "view=summary")
+    public List<CourseEnrollmentSummary> getAllSummaries() {
+        return enrollmentService.getAllSummaries();
+    }
+    
+    @GetMapping(value = "/course/{courseId}", params = "view=summary")
+    public List<CourseEnrollmentSummary> getSummariesByCourse(@PathVariable Long courseId) {
+        return enrollmentService.getSummariesByCourse(courseId);
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<CourseEnrollmentView> getEnrollment(@PathVariable Long id) {
+        return enrollmentService.getEnrollment(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/export")
+    public void exportEnrollments(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(exportFormat.fileName("course-enrollments")).build().toString());
+        try (ExportWriter<CourseEnrollmentView> writer = ExportWriter.open(exportFormat, response.getOutputStream(), objectMapper, CSV_COLUMNS)) {
+            enrollmentService.exportAllEnrollments(writer);
+        }
+    }
+    
     @PostMapping
-    public CourseEnrollment createEnrollment(@RequestBody CourseEnrollment enrollment) {
+    public CourseEnrollmentView createEnrollment(@RequestBody CourseEnrollment enrollment) {
         return enrollmentService.createEnrollment(enrollment, enrollment.getCourse().getId());
     }
     
@@ -1,12 +1,24 @@
 package com.webvibes.portal.controller;
 
+import com.webvibes.portal.cache.SerializedSnapshot;
+import com.webvibes.portal.ingest.ImportResult;
 import com.webvibes.portal.model.Internship;
+import com.webvibes.portal.model.InternshipSummary;
+import com.webvibes.portal.paging.Cursor;
+import com.webvibes.portal.paging.CursorPage;
+import com.webvibes.portal.search.FacetedResult;
 import com.webvibes.portal.service.InternshipService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -23,9 +35,46 @@ public class InternshipController {
         return internshipService.listAll();
     }
 
+    @GetMapping(params = "limit")
+    public CursorPage<Internship> listPage(@RequestParam int limit, @RequestParam(required = false) String cursor) {
+        return internshipService.listPage(Cursor.decode(cursor), CursorPage.clamp(limit));
+    }
+
+    @GetMapping(params = "view=summary")
+    public List<InternshipSummary> listSummaries() {
+        return internshipService.listSummaries();
+    }
+
+    @GetMapping(params = {"limit", "view=summary"})
+    public CursorPage<InternshipSummary> listSummaryPage(@RequestParam int limit,
+                                                        @RequestParam(required = false) String cursor) {
+        return internshipService.listSummaryPage(Cursor.decode(cursor), CursorPage.clamp(limit));
+    }
+
     @GetMapping("/active")
-    public List<Internship> listActive() {
-        return internshipService.listActive();
+    public ResponseEntity<byte[]> listActive(WebRequest request) {
+        SerializedSnapshot.Body body = internshipService.activeBody();
+        boolean gzip = SerializedSnapshot.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.checkNotModified(body.etag(gzip))) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(body.etag(gzip))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        return gzip ? ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip()) : ok.body(body.identity());
+    }
+
+    @GetMapping("/search")
+    public List<Internship> search(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        return internshipService.search(q, CursorPage.clamp(limit));
+    }
+
+    @GetMapping("/facets")
+    public FacetedResult<Internship> facets(@RequestParam MultiValueMap<String, String> params,
+                                            @RequestParam(defaultValue = "20") int limit) {
+        return internshipService.facets(params, CursorPage.clamp(limit));
     }
 
     @GetMapping("/{id}")
@@ -41,6 +90,16 @@ public class InternshipController {
         return ResponseEntity.created(URI.create("/api/internships/" + saved.getId())).body(saved);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResult> importJson(@RequestBody List<Internship> internships) {
+        return imported(internshipService.importAll(internships));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportResult> importCsv(InputStream body) {
+        return imported(internshipService.importCsv(body));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Internship> update(@PathVariable Long id, @Valid @RequestBody Internship internship) {
         return internshipService.update(id, internship)
@@ -53,4 +112,8 @@ public class InternshipController {
         internshipService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<ImportResult> imported(ImportResult result) {
+        return result.ok() ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+    }
 }
@@ -0,0 +1,43 @@
+package com.webvibes.portal.controller;
+
+import com.webvibes.portal.stats.DailyCount;
+import com.webvibes.portal.stats.SubmissionStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:4200", allowCredentials = "true")
+public class StatsController {
+
+    private final SubmissionStats submissionStats;
+
+    @GetMapping("/applications")
+    public Map<Long, Long> applicationsByInternship() {
+        return submissionStats.applicationsByInternship();
+    }
+
+    @GetMapping("/applications/{internshipId}")
+    public long applications(@PathVariable Long internshipId) {
+        return submissionStats.applications(internshipId);
+    }
+
+    @GetMapping("/enrollments")
+    public Map<Long, Long> enrollmentsByCourse() {
+        return submissionStats.enrollmentsByCourse();
+    }
+
+    @GetMapping("/enrollments/{courseId}")
+    public long enrollments(@PathVariable Long courseId) {
+        return submissionStats.enrollments(courseId);
+    }
+
+    @GetMapping("/daily")
+    public List<DailyCount> daily(@RequestParam(defaultValue = "30") int days) {
+        return submissionStats.daily(Math.max(1, days));
+    }
+}
@@ -0,0 +1,5 @@
+package com.webvibes.portal.export;
+
+import java.util.function.Function;
+
+public record CsvColumn<T>(String header, Function<T, Object> value) {}
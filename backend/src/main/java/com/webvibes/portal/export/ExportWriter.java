@@ -0,0 +1,105 @@
+package com.webvibes.portal.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes export rows straight to the response stream, one record at a time,
+ * so nothing but the current row and the output buffer is held in memory.
+ */
+public abstract class ExportWriter<T> implements Consumer<T>, Closeable {
+
+    public static <T> ExportWriter<T> open(ExportFormat format, OutputStream out, ObjectMapper objectMapper,
+                                           List<CsvColumn<T>> columns) throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson<>(out, objectMapper.writer());
+            case CSV -> new Csv<>(out, columns);
+        };
+    }
+
+    @Override
+    public void accept(T row) {
+        try {
+            write(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void write(T row) throws IOException;
+
+    private static final class Ndjson<T> extends ExportWriter<T> {
+        private final OutputStream out;
+        private final ObjectWriter writer;
+
+        Ndjson(OutputStream out, ObjectWriter writer) {
+            this.out = new BufferedOutputStream(out);
+            this.writer = writer;
+        }
+
+        @Override
+        protected void write(T row) throws IOException {
+            out.write(writer.writeValueAsBytes(row));
+            out.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    private static final class Csv<T> extends ExportWriter<T> {
+        private final Writer out;
+        private final List<CsvColumn<T>> columns;
+
+        Csv(OutputStream out, List<CsvColumn<T>> columns) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.columns = columns;
+            writeLine(columns.stream().map(column -> (Object) column.header()).toList());
+        }
+
+        @Override
+        protected void write(T row) throws IOException {
+            writeLine(columns.stream().map(column -> column.value().apply(row)).toList());
+        }
+
+        private void writeLine(List<Object> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(escape(values.get(i)));
+            }
+            out.write("\r\n");
+        }
+
+        private static String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.webvibes.portal.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Validates an uploaded list of entities up front and persists it in chunks,
+ * one transaction per chunk through {@link JpaBatchWriter}, handing every
+ * committed chunk to a callback so the caller can update caches and publish
+ * one change event per chunk. A chunk that fails, at flush or at commit, ends
+ * the import with the count of the chunks committed before it.
+ */
+@Component
+public class BulkImporter {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public BulkImporter(EntityManager entityManager, TransactionTemplate transactionTemplate, Validator validator,
+                        ObjectMapper objectMapper, @Value("${ingest.import.chunk-size:500}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Maps CSV records onto {@code type} by header name, with Jackson's usual
+     * string coercion for numbers and booleans.
+     */
+    public <T> List<T> readCsv(InputStream body, Class<T> type) {
+        List<Map<String, String>> records;
+        try (Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            records = CsvRecords.read(reader);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unreadable CSV upload", e);
+        }
+        List<T> rows = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                rows.add(objectMapper.convertValue(records.get(i), type));
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Row " + (i + 1) + ": unreadable value", e);
+            }
+        }
+        return rows;
+    }
+
+    public <T> ImportResult importAll(List<T> rows, Consumer<List<T>> onCommitted) {
+        List<String> errors = validate(rows);
+        if (!errors.isEmpty()) {
+            return new ImportResult(0, 0, errors);
+        }
+        JpaBatchWriter<T> writer = new JpaBatchWriter<>(entityManager, transactionTemplate);
+        int imported = 0;
+        int batches = 0;
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<T> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            try {
+                writer.accept(chunk);
+            } catch (RuntimeException e) {
+                return new ImportResult(imported, batches,
+                        List.of("Rows " + (from + 1) + "-" + (from + chunk.size()) + ": " + e.getMessage()));
+            }
+            onCommitted.accept(chunk);
+            imported += chunk.size();
+            batches++;
+        }
+        return new ImportResult(imported, batches, List.of());
+    }
+
+    private <T> List<String> validate(List<T> rows) {
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            int row = i + 1;
+            validator.validate(rows.get(i)).stream()
+                    .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .map(v -> "Row " + row + ": " + describe(v))
+                    .forEach(errors::add);
+        }
+        return errors;
+    }
+
+    private static String describe(ConstraintViolation<?> violation) {
+        return violation.getPropertyPath() + " " + violation.getMessage();
+    }
+}
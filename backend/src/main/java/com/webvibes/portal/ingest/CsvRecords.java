@@ -0,0 +1,92 @@
+package com.webvibes.portal.ingest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal RFC 4180 reader: the first record is the header, and every following
+ * record becomes a map from header to value. Quoted fields may contain commas,
+ * doubled quotes and line breaks. The reader must support {@code mark}.
+ */
+public final class CsvRecords {
+
+    private CsvRecords() {
+    }
+
+    public static List<Map<String, String>> read(Reader in) throws IOException {
+        List<List<String>> records = parse(in);
+        if (records.isEmpty()) {
+            return List.of();
+        }
+        List<String> header = records.get(0).stream().map(String::trim).toList();
+        List<Map<String, String>> rows = new ArrayList<>(records.size() - 1);
+        for (List<String> record : records.subList(1, records.size())) {
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int i = 0; i < header.size() && i < record.size(); i++) {
+                row.put(header.get(i), record.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<List<String>> parse(Reader in) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean pending = false;
+        int c = in.read();
+        if (c == '\uFEFF') {
+            c = in.read();
+        }
+        for (; c != -1; c = in.read()) {
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                in.mark(1);
+                if (in.read() == '"') {
+                    field.append('"');
+                } else {
+                    in.reset();
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+                pending = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                pending = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n') {
+                        in.reset();
+                    }
+                }
+                if (pending) {
+                    record.add(field.toString());
+                    records.add(record);
+                }
+                record = new ArrayList<>();
+                field.setLength(0);
+                pending = false;
+            } else {
+                field.append((char) c);
+                pending = true;
+            }
+        }
+        if (pending) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,15 @@
+package com.webvibes.portal.ingest;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} lists rejected rows by their
+ * 1-based position in the upload; when it is not empty nothing past
+ * {@code imported} was written.
+ */
+public record ImportResult(int imported, int batches, List<String> errors) {
+
+    public boolean ok() {
+        return errors.isEmpty();
+    }
+}
@@ -0,0 +1,54 @@
+package com.webvibes.portal.ingest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Persists a batch in one transaction. Ids come from the entities' pooled
+ * sequences, so Hibernate can group the inserts into JDBC batches.
+ * <p>
+ * {@code persist} assigns those ids before the flush, and a rollback leaves
+ * them on the entities; they are cleared again so a failed batch can be
+ * passed back in (whole or row by row) as new entities.
+ */
+public class JpaBatchWriter<T> implements Consumer<List<T>> {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaBatchWriter(EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void accept(List<T> rows) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                rows.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            rows.forEach(this::clearId);
+            throw e;
+        }
+    }
+
+    private void clearId(T row) {
+        EntityType<?> type = entityManager.getMetamodel().entity(row.getClass());
+        if (type.getId(type.getIdType().getJavaType()).getJavaMember() instanceof Field id) {
+            try {
+                id.setAccessible(true);
+                id.set(row, null);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot reset id of " + type.getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.webvibes.portal.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the rows a {@link WriteBehindQueue} could not write before shutdown
+ * in a local file, one JSON document per line. Saves append, so rows spilled
+ * by an earlier run that were never restored are kept; a restore reads the
+ * whole file and deletes it.
+ */
+public class JsonLinesSpill<T> implements WriteBehindQueue.Spill<T> {
+
+    private final Path file;
+    private final Class<T> type;
+    private final ObjectMapper objectMapper;
+
+    public JsonLinesSpill(Path file, Class<T> type, ObjectMapper objectMapper) {
+        this.file = file.toAbsolutePath();
+        this.type = type;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void save(List<T> rows) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (T row : rows) {
+                out.write(objectMapper.writeValueAsString(row));
+                out.newLine();
+            }
+        }
+    }
+
+    @Override
+    public List<T> restore() throws IOException {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        List<T> rows = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (!line.isBlank()) {
+                rows.add(objectMapper.readValue(line, type));
+            }
+        }
+        Files.delete(file);
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        return file.toString();
+    }
+}
@@ -0,0 +1,214 @@
+package com.webvibes.portal.ingest;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Bounded buffer between request threads and the database. Submissions are
+ * accepted while there is room and written in batches by a scheduled flush.
+ * <p>
+ * The rows of a failed batch move to a separate retry list, outside the
+ * queue's capacity, so accepted submissions are not dropped to make room.
+ * Retries go one row at a time, before any new batch. A row that keeps failing
+ * for a non-transient reason (e.g. a value too long for its column) is logged
+ * and dropped after {@code maxAttempts}; that is the only way an accepted row
+ * is lost. Connection-level failures never count as an attempt, so an outage
+ * only delays writes.
+ * <p>
+ * On shutdown the queue keeps flushing until it is empty or
+ * {@code shutdownTimeout} has passed, then saves whatever is left to its
+ * {@link Spill}. The next instance restores those rows into the retry list.
+ * <p>
+ * Flushes are serialised with a {@link ReentrantLock} rather than a monitor,
+ * so a virtual thread blocked on JDBC inside one does not pin its carrier.
+ */
+@Slf4j
+public class WriteBehindQueue<T> {
+
+    private static final class Retry<T> {
+        final T row;
+        int attempts;
+
+        Retry(T row) {
+            this.row = row;
+        }
+    }
+
+    /** Where rows still unwritten at shutdown are kept until the next start. */
+    public interface Spill<T> {
+
+        void save(List<T> rows) throws IOException;
+
+        List<T> restore() throws IOException;
+    }
+
+    private final String name;
+    private final BlockingDeque<T> queue;
+    private final ConcurrentLinkedDeque<Retry<T>> retries = new ConcurrentLinkedDeque<>();
+    private final ReentrantLock flushing = new ReentrantLock();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Consumer<List<T>> writer;
+    private final Consumer<List<T>> onWritten;
+    private final Duration shutdownTimeout;
+    private final Spill<T> spill;
+
+    public WriteBehindQueue(String name, int capacity, int batchSize, int maxAttempts, Consumer<List<T>> writer,
+                            Consumer<List<T>> onWritten) {
+        this(name, capacity, batchSize, maxAttempts, writer, onWritten, Duration.ZERO, null);
+    }
+
+    public WriteBehindQueue(String name, int capacity, int batchSize, int maxAttempts, Consumer<List<T>> writer,
+                            Consumer<List<T>> onWritten, Duration shutdownTimeout, Spill<T> spill) {
+        this.name = name;
+        this.queue = new LinkedBlockingDeque<>(capacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.writer = writer;
+        this.onWritten = onWritten;
+        this.shutdownTimeout = shutdownTimeout;
+        this.spill = spill;
+        restore();
+    }
+
+    public boolean offer(T row) {
+        return queue.offerLast(row);
+    }
+
+    public int pending() {
+        return queue.size() + retries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${ingest.write-behind.flush-interval-ms:50}")
+    public void flush() {
+        flushing.lock();
+        try {
+            List<T> batch = new ArrayList<>(batchSize);
+            while (retryFailed() && queue.drainTo(batch, batchSize) > 0) {
+                try {
+                    writer.accept(batch);
+                    written(batch);
+                } catch (RuntimeException e) {
+                    log.warn("Write-behind batch of {} {} failed, retrying row by row", batch.size(), name, e);
+                    batch.forEach(row -> retries.addLast(new Retry<>(row)));
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            flushing.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        flush();
+        while (pending() > 0 && System.nanoTime() < deadline) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.min(TimeUnit.MILLISECONDS.toNanos(200), deadline - System.nanoTime()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            flush();
+        }
+        List<T> unwritten = drain();
+        if (unwritten.isEmpty()) {
+            return;
+        }
+        if (spill != null) {
+            try {
+                spill.save(unwritten);
+                log.warn("Saved {} unwritten {} to {}", unwritten.size(), name, spill);
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.error("Could not save unwritten {} to {}", name, spill, e);
+            }
+        }
+        log.error("Shutting down with {} unwritten {}: {}", unwritten.size(), name, unwritten);
+    }
+
+    private List<T> drain() {
+        flushing.lock();
+        try {
+            List<T> rows = new ArrayList<>(pending());
+            for (Retry<T> retry; (retry = retries.pollFirst()) != null; ) {
+                rows.add(retry.row);
+            }
+            queue.drainTo(rows);
+            return rows;
+        } finally {
+            flushing.unlock();
+        }
+    }
+
+    private void restore() {
+        if (spill == null) {
+            return;
+        }
+        try {
+            List<T> rows = spill.restore();
+            rows.forEach(row -> retries.addLast(new Retry<>(row)));
+            if (!rows.isEmpty()) {
+                log.info("Restored {} {} left unwritten by the last shutdown", rows.size(), name);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Could not restore unwritten {} from {}", name, spill, e);
+        }
+    }
+
+    /**
+     * Writes the retry list in order, stopping at the first row that fails
+     * again; {@code true} once the list is empty.
+     */
+    private boolean retryFailed() {
+        for (Retry<T> retry; (retry = retries.peekFirst()) != null; retries.removeFirst()) {
+            try {
+                writer.accept(List.of(retry.row));
+                written(List.of(retry.row));
+            } catch (RuntimeException e) {
+                if (isTransient(e) || ++retry.attempts < maxAttempts) {
+                    return false;
+                }
+                log.error("Dropping {} row after {} failed attempts: {}", name, retry.attempts, retry.row, e);
+            }
+        }
+        return true;
+    }
+
+    private void written(List<T> rows) {
+        try {
+            onWritten.accept(rows);
+        } catch (RuntimeException e) {
+            log.warn("Post-write callback for {} {} failed", rows.size(), name, e);
+        }
+    }
+
+    private static boolean isTransient(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof CannotCreateTransactionException || t instanceof TransientDataAccessException
+                    || t instanceof SQLTransientException || t instanceof SQLRecoverableException
+                    || t instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "applications")
@@ -17,7 +18,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Application {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -38,5 +40,13 @@ public class Application {
     @NotBlank
     private String coverLetter;
 
-    private LocalDateTime appliedAt = LocalDateTime.now();
+    @Column(nullable = false)
+    private LocalDateTime appliedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+    @PrePersist
+    protected void onCreate() {
+        if (appliedAt == null) {
+            appliedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package com.webvibes.portal.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * List-view projection of {@link Application} without the cover letter, which is
+ * only served by the detail endpoint.
+ */
+public record ApplicationSummary(Long id, Long internshipId, String fullName, String email, String phone,
+                                 String resumeUrl, LocalDateTime appliedAt) {
+}
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class ContactMessage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contact_messages_seq")
+    @SequenceGenerator(name = "contact_messages_seq", sequenceName = "contact_messages_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
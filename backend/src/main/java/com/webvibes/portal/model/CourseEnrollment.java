@@ -8,10 +8,11 @@ import java.time.LocalDateTime;
 public class CourseEnrollment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_enrollments_seq")
+    @SequenceGenerator(name = "course_enrollments_seq", sequenceName = "course_enrollments_seq", allocationSize = 50)
     private Long id;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
     private Course course;
     
@@ -0,0 +1,18 @@
+package com.webvibes.portal.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * List-view projection of an enrollment: {@link CourseEnrollmentView} without the
+ * free-text address, experience and motivation, which only the detail endpoint returns.
+ */
+public record CourseEnrollmentSummary(Long id, CourseEnrollmentView.CourseRef course, String fullName, String email,
+                                      String phone, String qualification, String institution,
+                                      LocalDateTime enrolledAt) {
+
+    public CourseEnrollmentSummary(Long id, Long courseId, String courseTitle, String fullName, String email,
+                                   String phone, String qualification, String institution, LocalDateTime enrolledAt) {
+        this(id, new CourseEnrollmentView.CourseRef(courseId, courseTitle), fullName, email, phone, qualification,
+                institution, enrolledAt);
+    }
+}
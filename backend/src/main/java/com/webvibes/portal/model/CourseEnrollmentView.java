@@ -0,0 +1,31 @@
+package com.webvibes.portal.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model for enrollments: the enrollment columns plus only the id and
+ * title of its course, filled straight from a join so listing enrollments
+ * never loads {@link Course} entities.
+ */
+public record CourseEnrollmentView(Long id, CourseRef course, String fullName, String email, String phone,
+                                   String address, String qualification, String institution, String experience,
+                                   String motivation, LocalDateTime enrolledAt) {
+
+    public record CourseRef(Long id, String title) {
+    }
+
+    public CourseEnrollmentView(Long id, Long courseId, String courseTitle, String fullName, String email,
+                                String phone, String address, String qualification, String institution,
+                                String experience, String motivation, LocalDateTime enrolledAt) {
+        this(id, new CourseRef(courseId, courseTitle), fullName, email, phone, address, qualification, institution,
+                experience, motivation, enrolledAt);
+    }
+
+    public static CourseEnrollmentView of(CourseEnrollment enrollment) {
+        Course course = enrollment.getCourse();
+        return new CourseEnrollmentView(enrollment.getId(), course.getId(), course.getTitle(),
+                enrollment.getFullName(), enrollment.getEmail(), enrollment.getPhone(), enrollment.getAddress(),
+                enrollment.getQualification(), enrollment.getInstitution(), enrollment.getExperience(),
+                enrollment.getMotivation(), enrollment.getEnrolledAt());
+    }
+}
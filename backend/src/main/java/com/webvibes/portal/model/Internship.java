@@ -1,26 +1,34 @@
 package com.webvibes.portal.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
 
 @Entity
 @Table(name = "internships")
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class Internship {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "internships_seq")
+    @SequenceGenerator(name = "internships_seq", sequenceName = "internships_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -29,6 +37,15 @@ public class Internship {
     @NotBlank
     private String department;
 
+    /**
+     * Generated by the database from {@code department}, so rows written with
+     * plain SQL are keyed too; the entity mirrors it before every write.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(insertable = false, updatable = false)
+    private String departmentKey;
+
     @NotBlank
     private String location;
 
@@ -40,5 +57,23 @@ public class Internship {
 
     private boolean active = true;
 
-    private LocalDateTime postedAt = LocalDateTime.now();
+    @Column(nullable = false)
+    private LocalDateTime postedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+    @PrePersist
+    protected void onCreate() {
+        if (postedAt == null) {
+            postedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        }
+        onUpdate();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        departmentKey = departmentKey(department);
+    }
+
+    public static String departmentKey(String department) {
+        return department == null ? null : department.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,11 @@
+package com.webvibes.portal.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * List-view projection of {@link Internship} without the description, which is
+ * only served by the detail endpoint.
+ */
+public record InternshipSummary(Long id, String title, String department, String location, Integer durationWeeks,
+                                boolean active, LocalDateTime postedAt) {
+}
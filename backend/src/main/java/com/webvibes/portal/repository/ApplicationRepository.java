@@ -1,12 +1,57 @@
 package com.webvibes.portal.repository;
 
 import com.webvibes.portal.model.Application;
+import com.webvibes.portal.model.ApplicationSummary;
+import com.webvibes.portal.stats.KeyCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
+    String SELECT_SUMMARY = "select new com.webvibes.portal.model.ApplicationSummary(a.id, a.internshipId, a.fullName, "
+            + "a.email, a.phone, a.resumeUrl, a.appliedAt) from Application a ";
+
     List<Application> findByInternshipId(Long internshipId);
+
+    List<Application> findAllByOrderByAppliedAtDescIdDesc(Limit limit);
+
+    @Query("select a from Application a where a.appliedAt < :appliedAt or (a.appliedAt = :appliedAt and a.id < :id) " +
+            "order by a.appliedAt desc, a.id desc")
+    List<Application> findPageAfter(@Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id, Limit limit);
+
+    @Query(SELECT_SUMMARY + "order by a.appliedAt desc, a.id desc")
+    List<ApplicationSummary> findSummaries(Limit limit);
+
+    @Query(SELECT_SUMMARY + "where a.appliedAt < :appliedAt or (a.appliedAt = :appliedAt and a.id < :id) " +
+            "order by a.appliedAt desc, a.id desc")
+    List<ApplicationSummary> findSummaryPageAfter(@Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id,
+                                                  Limit limit);
+
+    @Query(SELECT_SUMMARY + "where a.internshipId = :internshipId order by a.id")
+    List<ApplicationSummary> findSummariesByInternshipId(@Param("internshipId") Long internshipId);
+
+    @Query("select new com.webvibes.portal.stats.KeyCount(a.internshipId, count(a)) from Application a " +
+            "group by a.internshipId")
+    List<KeyCount> countByInternship();
+
+    @Query("select new com.webvibes.portal.stats.KeyCount(cast(a.appliedAt as LocalDate), count(a)) " +
+            "from Application a where a.appliedAt >= :since group by cast(a.appliedAt as LocalDate)")
+    List<KeyCount> countByDaySince(@Param("since") LocalDateTime since);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Application a order by a.id")
+    Stream<Application> streamAll();
 }
@@ -1,9 +1,14 @@
 package com.webvibes.portal.repository;
 
 import com.webvibes.portal.model.ContactMessage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ContactMessageRepository extends JpaRepository<ContactMessage, Long> {
+    List<ContactMessage> findAllByOrderByIdDesc(Limit limit);
+    List<ContactMessage> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
 }
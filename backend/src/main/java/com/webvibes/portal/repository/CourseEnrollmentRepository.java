@@ -1,12 +1,55 @@
 package com.webvibes.portal.repository;
 
 import com.webvibes.portal.model.CourseEnrollment;
+import com.webvibes.portal.model.CourseEnrollmentSummary;
+import com.webvibes.portal.model.CourseEnrollmentView;
+import com.webvibes.portal.stats.KeyCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollment, Long> {
-    List<CourseEnrollment> findByCourseId(Long courseId);
+    String SELECT_VIEW = "select new com.webvibes.portal.model.CourseEnrollmentView(e.id, c.id, c.title, e.fullName, "
+            + "e.email, e.phone, e.address, e.qualification, e.institution, e.experience, e.motivation, e.enrolledAt) "
+            + "from CourseEnrollment e join e.course c ";
+    String SELECT_SUMMARY = "select new com.webvibes.portal.model.CourseEnrollmentSummary(e.id, c.id, c.title, "
+            + "e.fullName, e.email, e.phone, e.qualification, e.institution, e.enrolledAt) "
+            + "from CourseEnrollment e join e.course c ";
+
+    @Query(SELECT_VIEW + "order by e.id")
+    List<CourseEnrollmentView> findAllViews();
+
+    @Query(SELECT_VIEW + "where c.id = :courseId order by e.id")
+    List<CourseEnrollmentView> findViewsByCourseId(@Param("courseId") Long courseId);
+
+    @Query(SELECT_VIEW + "where e.id = :id")
+    Optional<CourseEnrollmentView> findViewById(@Param("id") Long id);
+
+    @Query(SELECT_SUMMARY + "order by e.id")
+    List<CourseEnrollmentSummary> findAllSummaries();
+
+    @Query(SELECT_SUMMARY + "where c.id = :courseId order by e.id")
+    List<CourseEnrollmentSummary> findSummariesByCourseId(@Param("courseId") Long courseId);
+
+    @Query("select new com.webvibes.portal.stats.KeyCount(e.course.id, count(e)) from CourseEnrollment e " +
+            "group by e.course.id")
+    List<KeyCount> countByCourse();
+
+    @Query("select new com.webvibes.portal.stats.KeyCount(cast(e.enrolledAt as LocalDate), count(e)) " +
+            "from CourseEnrollment e where e.enrolledAt >= :since group by cast(e.enrolledAt as LocalDate)")
+    List<KeyCount> countByDaySince(@Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_VIEW + "order by e.id")
+    Stream<CourseEnrollmentView> streamAllViews();
 }
@@ -1,6 +1,7 @@
 package com.webvibes.portal.repository;
 
 import com.webvibes.portal.model.Course;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +10,7 @@ import java.util.List;
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
     List<Course> findByActiveTrue();
+
+    List<Course> findAllByOrderByIdDesc(Limit limit);
+    List<Course> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
 }
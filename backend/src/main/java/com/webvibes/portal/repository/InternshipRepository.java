@@ -1,13 +1,39 @@
 package com.webvibes.portal.repository;
 
 import com.webvibes.portal.model.Internship;
+import com.webvibes.portal.model.InternshipSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface InternshipRepository extends JpaRepository<Internship, Long> {
+    String SELECT_SUMMARY = "select new com.webvibes.portal.model.InternshipSummary(i.id, i.title, i.department, "
+            + "i.location, i.durationWeeks, i.active, i.postedAt) from Internship i ";
+
     List<Internship> findByActiveTrue();
-    List<Internship> findByDepartmentIgnoreCase(String department);
+    List<Internship> findByDepartmentKey(String departmentKey);
+
+    default List<Internship> findByDepartmentIgnoreCase(String department) {
+        return findByDepartmentKey(Internship.departmentKey(department));
+    }
+
+    List<Internship> findAllByOrderByPostedAtDescIdDesc(Limit limit);
+
+    @Query("select i from Internship i where i.postedAt < :postedAt or (i.postedAt = :postedAt and i.id < :id) " +
+            "order by i.postedAt desc, i.id desc")
+    List<Internship> findPageAfter(@Param("postedAt") LocalDateTime postedAt, @Param("id") Long id, Limit limit);
+
+    @Query(SELECT_SUMMARY + "order by i.postedAt desc, i.id desc")
+    List<InternshipSummary> findSummaries(Limit limit);
+
+    @Query(SELECT_SUMMARY + "where i.postedAt < :postedAt or (i.postedAt = :postedAt and i.id < :id) " +
+            "order by i.postedAt desc, i.id desc")
+    List<InternshipSummary> findSummaryPageAfter(@Param("postedAt") LocalDateTime postedAt, @Param("id") Long id,
+                                                 Limit limit);
 }
@@ -0,0 +1,189 @@
+package com.webvibes.portal.search;
+
+import com.webvibes.portal.cache.CatalogSnapshot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Bitset per facet value over a {@link CatalogSnapshot}, maintained through
+ * the snapshot's listener callbacks. Each document owns a slot (bit position);
+ * values within a facet are OR-ed and facets are AND-ed. Facet counts are
+ * computed against the filters of the other facets, so a client can show how
+ * many results each alternative value would give.
+ */
+public class FacetIndex<T> implements CatalogSnapshot.Listener<T> {
+
+    private final CatalogSnapshot<T> source;
+    private final Function<T, Long> idOf;
+    private final Map<String, Function<T, ?>> facets;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final List<T> documents = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final Map<String, Map<String, BitSet>> bitsets = new HashMap<>();
+    private final Map<String, Map<String, String>> labels = new HashMap<>();
+
+    public FacetIndex(CatalogSnapshot<T> source, Function<T, Long> idOf, Map<String, Function<T, ?>> facets) {
+        this.source = source;
+        this.idOf = idOf;
+        this.facets = facets;
+        facets.keySet().forEach(facet -> {
+            bitsets.put(facet, new HashMap<>());
+            labels.put(facet, new HashMap<>());
+        });
+        source.addListener(this);
+    }
+
+    public Set<String> facetNames() {
+        return facets.keySet();
+    }
+
+    public FacetedResult<T> query(Map<String, ? extends Collection<String>> filters, int limit) {
+        source.view();
+        lock.readLock().lock();
+        try {
+            Map<String, BitSet> selected = new HashMap<>();
+            filters.forEach((facet, values) -> {
+                if (facets.containsKey(facet) && !values.isEmpty()) {
+                    selected.put(facet, union(facet, values));
+                }
+            });
+
+            BitSet matches = intersect(selected, null);
+            List<T> items = matches.stream()
+                    .mapToObj(documents::get)
+                    .sorted(Comparator.comparing(idOf, Comparator.reverseOrder()))
+                    .limit(limit)
+                    .toList();
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (String facet : facets.keySet()) {
+                BitSet base = intersect(selected, facet);
+                List<Map.Entry<String, Integer>> values = new ArrayList<>();
+                bitsets.get(facet).forEach((key, bits) -> {
+                    BitSet hits = (BitSet) bits.clone();
+                    hits.and(base);
+                    if (!hits.isEmpty()) {
+                        values.add(Map.entry(labels.get(facet).get(key), hits.cardinality()));
+                    }
+                });
+                values.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()));
+                Map<String, Integer> ordered = new LinkedHashMap<>();
+                values.forEach(value -> ordered.put(value.getKey(), value.getValue()));
+                counts.put(facet, ordered);
+            }
+            return new FacetedResult<>(matches.cardinality(), items, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void reloaded(List<T> items) {
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            documents.clear();
+            freeSlots.clear();
+            live.clear();
+            bitsets.values().forEach(Map::clear);
+            labels.values().forEach(Map::clear);
+            items.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void changed(Collection<T> upserted, Collection<Long> removed) {
+        lock.writeLock().lock();
+        try {
+            removed.forEach(this::drop);
+            for (T item : upserted) {
+                drop(idOf.apply(item));
+                add(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private BitSet union(String facet, Collection<String> values) {
+        BitSet bits = new BitSet();
+        for (String value : values) {
+            BitSet valueBits = bitsets.get(facet).get(key(value));
+            if (valueBits != null) {
+                bits.or(valueBits);
+            }
+        }
+        return bits;
+    }
+
+    private BitSet intersect(Map<String, BitSet> selected, String except) {
+        BitSet bits = (BitSet) live.clone();
+        selected.forEach((facet, facetBits) -> {
+            if (!facet.equals(except)) {
+                bits.and(facetBits);
+            }
+        });
+        return bits;
+    }
+
+    private void add(T item) {
+        int slot = freeSlots.isEmpty() ? documents.size() : freeSlots.pop();
+        if (slot == documents.size()) {
+            documents.add(item);
+        } else {
+            documents.set(slot, item);
+        }
+        slots.put(idOf.apply(item), slot);
+        live.set(slot);
+        facets.forEach((facet, valueOf) -> {
+            Object value = valueOf.apply(item);
+            if (value != null && !value.toString().isBlank()) {
+                String label = value.toString().trim();
+                String key = key(label);
+                bitsets.get(facet).computeIfAbsent(key, k -> new BitSet()).set(slot);
+                labels.get(facet).putIfAbsent(key, label);
+            }
+        });
+    }
+
+    private void drop(Long id) {
+        Integer slot = slots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        live.clear(slot);
+        documents.set(slot, null);
+        freeSlots.push(slot);
+        bitsets.forEach((facet, values) -> values.entrySet().removeIf(value -> {
+            value.getValue().clear(slot);
+            if (value.getValue().isEmpty()) {
+                labels.get(facet).remove(value.getKey());
+                return true;
+            }
+            return false;
+        }));
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
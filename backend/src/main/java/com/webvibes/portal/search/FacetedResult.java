@@ -0,0 +1,11 @@
+package com.webvibes.portal.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code total} matches (of which at most the requested number are in
+ * {@code items}) plus, per facet, the number of results each value would give.
+ */
+public record FacetedResult<T>(int total, List<T> items, Map<String, Map<String, Integer>> facets) {
+}
@@ -0,0 +1,161 @@
+package com.webvibes.portal.search;
+
+import com.webvibes.portal.cache.CatalogSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over a {@link CatalogSnapshot}. It registers as a
+ * snapshot listener, so service writes patch it per document and only a full
+ * snapshot reload rebuilds it. Every query term has to match (exactly or as a
+ * prefix of an indexed term); hits are ranked by field weight, term frequency
+ * and inverse document frequency, with prefix matches counting half.
+ */
+public class SearchIndex<T> implements CatalogSnapshot.Listener<T> {
+
+    public record Field<T>(Function<T, String> value, double weight) {
+    }
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double PREFIX_FACTOR = 0.5;
+
+    private final CatalogSnapshot<T> source;
+    private final Function<T, Long> idOf;
+    private final List<Field<T>> fields;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, T> documents = new HashMap<>();
+    private final Map<Long, Set<String>> termsByDocument = new HashMap<>();
+    private final TreeMap<String, Map<Long, Double>> postings = new TreeMap<>();
+
+    public SearchIndex(CatalogSnapshot<T> source, Function<T, Long> idOf, List<Field<T>> fields) {
+        this.source = source;
+        this.idOf = idOf;
+        this.fields = fields;
+        source.addListener(this);
+    }
+
+    public List<T> search(String query, int limit) {
+        List<String> terms = tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        source.view();
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = score(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .limit(limit)
+                    .map(hit -> documents.get(hit.getKey()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void reloaded(List<T> items) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            termsByDocument.clear();
+            postings.clear();
+            items.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void changed(Collection<T> upserted, Collection<Long> removed) {
+        lock.writeLock().lock();
+        try {
+            removed.forEach(this::drop);
+            for (T item : upserted) {
+                drop(idOf.apply(item));
+                add(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(String term) {
+        Map<Long, Double> best = new HashMap<>();
+        NavigableMap<String, Map<Long, Double>> matches = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+        matches.forEach((indexed, docs) -> {
+            double idf = Math.log(1 + (double) documents.size() / docs.size());
+            double factor = indexed.equals(term) ? 1 : PREFIX_FACTOR;
+            docs.forEach((id, weight) -> best.merge(id, weight * idf * factor, Math::max));
+        });
+        return best;
+    }
+
+    private void add(T item) {
+        Long id = idOf.apply(item);
+        Map<String, Double> weights = new HashMap<>();
+        for (Field<T> field : fields) {
+            for (String term : tokenize(field.value().apply(item))) {
+                weights.merge(term, field.weight(), Double::sum);
+            }
+        }
+        documents.put(id, item);
+        termsByDocument.put(id, new HashSet<>(weights.keySet()));
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, weight));
+    }
+
+    private void drop(Long id) {
+        documents.remove(id);
+        Set<String> terms = termsByDocument.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Double> docs = postings.get(term);
+            docs.remove(id);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
@@ -1,30 +1,112 @@
 package com.webvibes.portal.service;
 
+import com.webvibes.portal.broadcast.ChangeBroadcaster;
+import com.webvibes.portal.ingest.WriteBehindQueue;
 import com.webvibes.portal.model.Application;
+import com.webvibes.portal.model.ApplicationSummary;
+import com.webvibes.portal.paging.Cursor;
+import com.webvibes.portal.paging.CursorPage;
 import com.webvibes.portal.repository.ApplicationRepository;
+import com.webvibes.portal.stats.SubmissionStats;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "portal.service", histogram = true)
 @RequiredArgsConstructor
 public class ApplicationService {
+    public static final String TOPIC = "/topic/applications";
+
     private final ApplicationRepository applicationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChangeBroadcaster changeBroadcaster;
+    private final SubmissionStats submissionStats;
+    private final EntityManager entityManager;
+    private final Optional<WriteBehindQueue<Application>> writeBehind;
 
+    @Transactional(readOnly = true)
     public List<Application> listAll() {
         return applicationRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Application> listPage(Cursor after, int limit) {
+        Limit fetch = Limit.of(limit + 1);
+        List<Application> rows = after == null
+                ? applicationRepository.findAllByOrderByAppliedAtDescIdDesc(fetch)
+                : applicationRepository.findPageAfter(after.at(), after.id(), fetch);
+        return CursorPage.of(rows, limit, a -> Cursor.of(a.getAppliedAt(), a.getId()));
+    }
+
+    @Transactional(readOnly = true)
     public List<Application> listByInternship(Long internshipId) {
         return applicationRepository.findByInternshipId(internshipId);
     }
 
+    @Transactional(readOnly = true)
+    public List<ApplicationSummary> listSummaries() {
+        return applicationRepository.findSummaries(Limit.unlimited());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationSummary> listSummaryPage(Cursor after, int limit) {
+        Limit fetch = Limit.of(limit + 1);
+        List<ApplicationSummary> rows = after == null
+                ? applicationRepository.findSummaries(fetch)
+                : applicationRepository.findSummaryPageAfter(after.at(), after.id(), fetch);
+        return CursorPage.of(rows, limit, a -> Cursor.of(a.appliedAt(), a.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ApplicationSummary> listSummariesByInternship(Long internshipId) {
+        return applicationRepository.findSummariesByInternshipId(internshipId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Application> get(Long id) {
+        return applicationRepository.findById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Application> sink) {
+        try (Stream<Application> rows = applicationRepository.streamAll()) {
+            rows.forEach(row -> {
+                sink.accept(row);
+                entityManager.detach(row);
+            });
+        }
+    }
+
     public Application create(Application application) {
         Application saved = applicationRepository.save(application);
-        messagingTemplate.convertAndSend("/topic/applications", saved);
+        submissionStats.applicationAdded(saved.getInternshipId(), saved.getAppliedAt());
+        changeBroadcaster.created(TOPIC, saved.getId(), saved);
         return saved;
     }
+
+    public boolean isWriteBehind() {
+        return writeBehind.isPresent();
+    }
+
+    /**
+     * Queues a copy of the application for a batched insert, so the caller can
+     * keep using (and serialising) its own instance while the flush thread
+     * writes the copy; {@code false} means the queue is full and the caller
+     * should back off.
+     */
+    public boolean submit(Application application) {
+        application.setId(null);
+        Application row = new Application();
+        BeanUtils.copyProperties(application, row);
+        return writeBehind.orElseThrow().offer(row);
+    }
 }
@@ -1,18 +1,48 @@
 package com.webvibes.portal.service;
 
+import com.webvibes.portal.ingest.WriteBehindQueue;
 import com.webvibes.portal.model.ContactMessage;
+import com.webvibes.portal.paging.Cursor;
+import com.webvibes.portal.paging.CursorPage;
 import com.webvibes.portal.repository.ContactMessageRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
+@Timed(value = "portal.service", histogram = true)
 @RequiredArgsConstructor
 public class ContactMessageService {
     private final ContactMessageRepository repository;
+    private final Optional<WriteBehindQueue<ContactMessage>> writeBehind;
 
+    @Transactional(readOnly = true)
     public List<ContactMessage> listAll() { return repository.findAll(); }
 
+    @Transactional(readOnly = true)
+    public CursorPage<ContactMessage> listPage(Cursor after, int limit) {
+        Limit fetch = Limit.of(limit + 1);
+        List<ContactMessage> rows = after == null
+                ? repository.findAllByOrderByIdDesc(fetch)
+                : repository.findByIdLessThanOrderByIdDesc(after.id(), fetch);
+        return CursorPage.of(rows, limit, m -> Cursor.of(m.getId()));
+    }
+
     public ContactMessage create(ContactMessage msg) { return repository.save(msg); }
+
+    public boolean isWriteBehind() { return writeBehind.isPresent(); }
+
+    /** Queues a copy; the caller's instance is never touched by the flush thread. */
+    public boolean submit(ContactMessage msg) {
+        msg.setId(null);
+        ContactMessage row = new ContactMessage();
+        BeanUtils.copyProperties(msg, row);
+        return writeBehind.orElseThrow().offer(row);
+    }
 }
@@ -2,14 +2,23 @@ package com.webvibes.portal.service;
 
 import com.webvibes.portal.model.Course;
 import com.webvibes.portal.model.CourseEnrollment;
+import com.webvibes.portal.model.CourseEnrollmentSummary;
+import com.webvibes.portal.model.CourseEnrollmentView;
 import com.webvibes.portal.repository.CourseEnrollmentRepository;
 import com.webvibes.portal.repository.CourseRepository;
+import com.webvibes.portal.stats.SubmissionStats;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "portal.service", histogram = true)
 public class CourseEnrollmentService {
     
     @Autowired
@@ -18,22 +27,55 @@ public class CourseEnrollmentService {
     @Autowired
     private CourseRepository courseRepository;
     
-    public List<CourseEnrollment> getAllEnrollments() {
-        return enrollmentRepository.findAll();
+    @Autowired
+    private SubmissionStats submissionStats;
+    
+    @Transactional(readOnly = true)
+    public List<CourseEnrollmentView> getAllEnrollments() {
+        return enrollmentRepository.findAllViews();
+    }
+    
+    @Transactional(readOnly = true)
+    public List<CourseEnrollmentView> getEnrollmentsByCourse(Long courseId) {
+        return enrollmentRepository.findViewsByCourseId(courseId);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<CourseEnrollmentSummary> getAllSummaries() {
+        return enrollmentRepository.findAllSummaries();
+    }
+    
+    @Transactional(readOnly = true)
+    public List<CourseEnrollmentSummary> getSummariesByCourse(Long courseId) {
+        return enrollmentRepository.findSummariesByCourseId(courseId);
+    }
+    
+    @Transactional(readOnly = true)
+    public Optional<CourseEnrollmentView> getEnrollment(Long id) {
+        return enrollmentRepository.findViewById(id);
     }
     
-    public List<CourseEnrollment> getEnrollmentsByCourse(Long courseId) {
-        return enrollmentRepository.findByCourseId(courseId);
+    @Transactional(readOnly = true)
+    public void exportAllEnrollments(Consumer<CourseEnrollmentView> sink) {
+        try (Stream<CourseEnrollmentView> rows = enrollmentRepository.streamAllViews()) {
+            rows.forEach(sink);
+        }
     }
     
-    public CourseEnrollment createEnrollment(CourseEnrollment enrollment, Long courseId) {
+    public CourseEnrollmentView createEnrollment(CourseEnrollment enrollment, Long courseId) {
         Course course = courseRepository.findById(courseId)
             .orElseThrow(() -> new RuntimeException("Course not found"));
         enrollment.setCourse(course);
-        return enrollmentRepository.save(enrollment);
+        CourseEnrollment saved = enrollmentRepository.save(enrollment);
+        submissionStats.enrollmentAdded(courseId, saved.getEnrolledAt());
+        return CourseEnrollmentView.of(saved);
     }
     
+    @Transactional
     public void deleteEnrollment(Long id) {
-        enrollmentRepository.deleteById(id);
+        enrollmentRepository.findById(id).ifPresent(enrollment -> {
+            enrollmentRepository.delete(enrollment);
+            submissionStats.enrollmentRemoved(enrollment.getCourse().getId(), enrollment.getEnrolledAt());
+        });
     }
 }
@@ -1,40 +1,99 @@
 package com.webvibes.portal.service;
 
+import com.webvibes.portal.broadcast.ChangeBroadcaster;
+import com.webvibes.portal.cache.CatalogSnapshot;
+import com.webvibes.portal.cache.SerializedSnapshot;
+import com.webvibes.portal.ingest.BulkImporter;
+import com.webvibes.portal.ingest.ImportResult;
 import com.webvibes.portal.model.Course;
+import com.webvibes.portal.paging.Cursor;
+import com.webvibes.portal.paging.CursorPage;
 import com.webvibes.portal.repository.CourseRepository;
+import com.webvibes.portal.search.FacetIndex;
+import com.webvibes.portal.search.FacetedResult;
+import com.webvibes.portal.search.SearchIndex;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
+@Timed(value = "portal.service", histogram = true)
 @RequiredArgsConstructor
 public class CourseService {
+    public static final String TOPIC = "/topic/courses";
+
     private final CourseRepository courseRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChangeBroadcaster changeBroadcaster;
+    private final CatalogSnapshot<Course> activeCourses;
+    private final SerializedSnapshot<Course> activeCoursesJson;
+    private final SearchIndex<Course> courseSearch;
+    private final FacetIndex<Course> courseFacets;
+    private final BulkImporter bulkImporter;
 
     public List<Course> listActive() {
-        return courseRepository.findByActiveTrue();
+        return activeCourses.items();
+    }
+
+    public SerializedSnapshot.Body activeBody() {
+        return activeCoursesJson.body();
+    }
+
+    public List<Course> search(String query, int limit) {
+        return courseSearch.search(query, limit);
+    }
+
+    public FacetedResult<Course> facets(Map<String, List<String>> filters, int limit) {
+        return courseFacets.query(filters, limit);
     }
 
+    @Transactional(readOnly = true)
     public List<Course> listAll() {
         return courseRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Course> listPage(Cursor after, int limit) {
+        Limit fetch = Limit.of(limit + 1);
+        List<Course> rows = after == null
+                ? courseRepository.findAllByOrderByIdDesc(fetch)
+                : courseRepository.findByIdLessThanOrderByIdDesc(after.id(), fetch);
+        return CursorPage.of(rows, limit, c -> Cursor.of(c.getId()));
+    }
+
+    @Transactional(readOnly = true)
     public Optional<Course> get(Long id) {
         return courseRepository.findById(id);
     }
 
     public Course create(Course course) {
         Course saved = courseRepository.save(course);
-        messagingTemplate.convertAndSend("/topic/courses", saved);
+        activeCourses.put(saved);
+        changeBroadcaster.created(TOPIC, saved.getId(), saved);
         return saved;
     }
 
+    public ImportResult importAll(List<Course> courses) {
+        courses.forEach(c -> c.setId(null));
+        return bulkImporter.importAll(courses, chunk -> {
+            activeCourses.putAll(chunk);
+            changeBroadcaster.imported(TOPIC, chunk.stream().map(Course::getId).toList());
+        });
+    }
+
+    public ImportResult importCsv(InputStream csv) {
+        return importAll(bulkImporter.readCsv(csv, Course.class));
+    }
+
     public Optional<Course> update(Long id, Course updated) {
         return courseRepository.findById(id).map(existing -> {
+            Map<String, Object> before = changeBroadcaster.fields(existing);
             existing.setTitle(updated.getTitle());
             existing.setInstructor(updated.getInstructor());
             existing.setDescription(updated.getDescription());
@@ -42,13 +101,15 @@ public class CourseService {
             existing.setCategory(updated.getCategory());
             existing.setActive(updated.isActive());
             Course saved = courseRepository.save(existing);
-            messagingTemplate.convertAndSend("/topic/courses", saved);
+            activeCourses.put(saved);
+            changeBroadcaster.updated(TOPIC, saved.getId(), before, saved);
             return saved;
         });
     }
 
     public void delete(Long id) {
         courseRepository.deleteById(id);
-        messagingTemplate.convertAndSend("/topic/courses", "deleted:" + id);
+        activeCourses.remove(id);
+        changeBroadcaster.deleted(TOPIC, id);
     }
 }
@@ -1,40 +1,114 @@
 package com.webvibes.portal.service;
 
+import com.webvibes.portal.broadcast.ChangeBroadcaster;
+import com.webvibes.portal.cache.CatalogSnapshot;
+import com.webvibes.portal.cache.SerializedSnapshot;
+import com.webvibes.portal.ingest.BulkImporter;
+import com.webvibes.portal.ingest.ImportResult;
 import com.webvibes.portal.model.Internship;
+import com.webvibes.portal.model.InternshipSummary;
+import com.webvibes.portal.paging.Cursor;
+import com.webvibes.portal.paging.CursorPage;
 import com.webvibes.portal.repository.InternshipRepository;
+import com.webvibes.portal.search.FacetIndex;
+import com.webvibes.portal.search.FacetedResult;
+import com.webvibes.portal.search.SearchIndex;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
+@Timed(value = "portal.service", histogram = true)
 @RequiredArgsConstructor
 public class InternshipService {
+    public static final String TOPIC = "/topic/internships";
+
     private final InternshipRepository internshipRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChangeBroadcaster changeBroadcaster;
+    private final CatalogSnapshot<Internship> activeInternships;
+    private final SerializedSnapshot<Internship> activeInternshipsJson;
+    private final SearchIndex<Internship> internshipSearch;
+    private final FacetIndex<Internship> internshipFacets;
+    private final BulkImporter bulkImporter;
 
     public List<Internship> listActive() {
-        return internshipRepository.findByActiveTrue();
+        return activeInternships.items();
+    }
+
+    public SerializedSnapshot.Body activeBody() {
+        return activeInternshipsJson.body();
+    }
+
+    public List<Internship> search(String query, int limit) {
+        return internshipSearch.search(query, limit);
     }
 
+    public FacetedResult<Internship> facets(Map<String, List<String>> filters, int limit) {
+        return internshipFacets.query(filters, limit);
+    }
+
+    @Transactional(readOnly = true)
     public List<Internship> listAll() {
         return internshipRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Internship> listPage(Cursor after, int limit) {
+        Limit fetch = Limit.of(limit + 1);
+        List<Internship> rows = after == null
+                ? internshipRepository.findAllByOrderByPostedAtDescIdDesc(fetch)
+                : internshipRepository.findPageAfter(after.at(), after.id(), fetch);
+        return CursorPage.of(rows, limit, i -> Cursor.of(i.getPostedAt(), i.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<InternshipSummary> listSummaries() {
+        return internshipRepository.findSummaries(Limit.unlimited());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<InternshipSummary> listSummaryPage(Cursor after, int limit) {
+        Limit fetch = Limit.of(limit + 1);
+        List<InternshipSummary> rows = after == null
+                ? internshipRepository.findSummaries(fetch)
+                : internshipRepository.findSummaryPageAfter(after.at(), after.id(), fetch);
+        return CursorPage.of(rows, limit, i -> Cursor.of(i.postedAt(), i.id()));
+    }
+
+    @Transactional(readOnly = true)
     public Optional<Internship> get(Long id) {
         return internshipRepository.findById(id);
     }
 
     public Internship create(Internship internship) {
         Internship saved = internshipRepository.save(internship);
-        messagingTemplate.convertAndSend("/topic/internships", saved);
+        activeInternships.put(saved);
+        changeBroadcaster.created(TOPIC, saved.getId(), saved);
         return saved;
     }
 
+    public ImportResult importAll(List<Internship> internships) {
+        internships.forEach(i -> i.setId(null));
+        return bulkImporter.importAll(internships, chunk -> {
+            activeInternships.putAll(chunk);
+            changeBroadcaster.imported(TOPIC, chunk.stream().map(Internship::getId).toList());
+        });
+    }
+
+    public ImportResult importCsv(InputStream csv) {
+        return importAll(bulkImporter.readCsv(csv, Internship.class));
+    }
+
     public Optional<Internship> update(Long id, Internship updated) {
         return internshipRepository.findById(id).map(existing -> {
+            Map<String, Object> before = changeBroadcaster.fields(existing);
             existing.setTitle(updated.getTitle());
             existing.setDepartment(updated.getDepartment());
             existing.setLocation(updated.getLocation());
@@ -42,13 +116,15 @@ public class InternshipService {
             existing.setDescription(updated.getDescription());
             existing.setActive(updated.isActive());
             Internship saved = internshipRepository.save(existing);
-            messagingTemplate.convertAndSend("/topic/internships", saved);
+            activeInternships.put(saved);
+            changeBroadcaster.updated(TOPIC, saved.getId(), before, saved);
             return saved;
         });
     }
 
     public void delete(Long id) {
         internshipRepository.deleteById(id);
-        messagingTemplate.convertAndSend("/topic/internships", "deleted:" + id);
+        activeInternships.remove(id);
+        changeBroadcaster.deleted(TOPIC, id);
     }
 }
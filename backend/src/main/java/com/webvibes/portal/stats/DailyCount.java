@@ -0,0 +1,6 @@
+package com.webvibes.portal.stats;
+
+import java.time.LocalDate;
+
+public record DailyCount(LocalDate date, long applications, long enrollments) {
+}
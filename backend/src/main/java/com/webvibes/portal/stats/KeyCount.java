@@ -0,0 +1,7 @@
+package com.webvibes.portal.stats;
+
+/**
+ * One row of a GROUP BY count query.
+ */
+public record KeyCount(Object key, long count) {
+}
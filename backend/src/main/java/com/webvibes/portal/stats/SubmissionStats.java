@@ -0,0 +1,193 @@
+package com.webvibes.portal.stats;
+
+import com.webvibes.portal.config.PrimaryReads;
+import com.webvibes.portal.repository.ApplicationRepository;
+import com.webvibes.portal.repository.CourseEnrollmentRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory submission counters for the admin dashboard: applications per
+ * internship, enrollments per course and both per day. They are seeded from
+ * GROUP BY queries at startup, bumped by the services once the writing
+ * transaction commits (so a rollback leaves them alone), and re-seeded
+ * periodically so writes made by other instances (or straight in
+ * the database) are picked up; increments racing a re-seed may be dropped.
+ * Seeding goes through {@link PrimaryReads}, not a replica that may be
+ * missing the writes just counted.
+ */
+@Slf4j
+@Component
+public class SubmissionStats {
+
+    private static final class Counters {
+        final ConcurrentMap<Long, LongAdder> applicationsByInternship = new ConcurrentHashMap<>();
+        final ConcurrentMap<Long, LongAdder> enrollmentsByCourse = new ConcurrentHashMap<>();
+        final ConcurrentMap<LocalDate, LongAdder> applicationsByDay = new ConcurrentHashMap<>();
+        final ConcurrentMap<LocalDate, LongAdder> enrollmentsByDay = new ConcurrentHashMap<>();
+    }
+
+    private final ApplicationRepository applicationRepository;
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final PrimaryReads primaryReads;
+    private final int dailyWindowDays;
+    private volatile Counters counters = new Counters();
+
+    public SubmissionStats(ApplicationRepository applicationRepository, CourseEnrollmentRepository enrollmentRepository,
+                           PrimaryReads primaryReads,
+                           @Value("${stats.daily-window-days:90}") int dailyWindowDays) {
+        this.applicationRepository = applicationRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.primaryReads = primaryReads;
+        this.dailyWindowDays = dailyWindowDays;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${stats.reseed-interval-ms:600000}",
+            initialDelayString = "${stats.reseed-interval-ms:600000}")
+    public void reseed() {
+        LocalDateTime since = windowStart().atStartOfDay();
+        Counters seeded = new Counters();
+        primaryReads.get(() -> {
+            seed(seeded.applicationsByInternship, applicationRepository.countByInternship());
+            seed(seeded.enrollmentsByCourse, enrollmentRepository.countByCourse());
+            seed(seeded.applicationsByDay, applicationRepository.countByDaySince(since));
+            seed(seeded.enrollmentsByDay, enrollmentRepository.countByDaySince(since));
+            return seeded;
+        });
+        counters = seeded;
+        log.debug("Seeded submission stats for {} internships and {} courses",
+                seeded.applicationsByInternship.size(), seeded.enrollmentsByCourse.size());
+    }
+
+    public void applicationAdded(Long internshipId, LocalDateTime appliedAt) {
+        afterCommit(() -> {
+            Counters current = counters;
+            add(current.applicationsByInternship, internshipId, 1);
+            addDay(current.applicationsByDay, appliedAt, 1);
+        });
+    }
+
+    public void enrollmentAdded(Long courseId, LocalDateTime enrolledAt) {
+        afterCommit(() -> {
+            Counters current = counters;
+            add(current.enrollmentsByCourse, courseId, 1);
+            addDay(current.enrollmentsByDay, enrolledAt, 1);
+        });
+    }
+
+    public void enrollmentRemoved(Long courseId, LocalDateTime enrolledAt) {
+        afterCommit(() -> {
+            Counters current = counters;
+            add(current.enrollmentsByCourse, courseId, -1);
+            addDay(current.enrollmentsByDay, enrolledAt, -1);
+        });
+    }
+
+    public long applications(Long internshipId) {
+        return sum(counters.applicationsByInternship.get(internshipId));
+    }
+
+    public long enrollments(Long courseId) {
+        return sum(counters.enrollmentsByCourse.get(courseId));
+    }
+
+    public Map<Long, Long> applicationsByInternship() {
+        return snapshot(counters.applicationsByInternship);
+    }
+
+    public Map<Long, Long> enrollmentsByCourse() {
+        return snapshot(counters.enrollmentsByCourse);
+    }
+
+    /**
+     * One entry per day for the last {@code days} days (today included,
+     * capped at the daily window), oldest first.
+     */
+    public List<DailyCount> daily(int days) {
+        Counters current = counters;
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(Math.min(days, dailyWindowDays) - 1L);
+        List<DailyCount> result = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            result.add(new DailyCount(day, sum(current.applicationsByDay.get(day)),
+                    sum(current.enrollmentsByDay.get(day))));
+        }
+        return result;
+    }
+
+    public int dailyWindowDays() {
+        return dailyWindowDays;
+    }
+
+    /** Runs {@code update} once the current transaction commits, or now outside one. */
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    private LocalDate windowStart() {
+        return LocalDate.now().minusDays(dailyWindowDays - 1L);
+    }
+
+    private void addDay(ConcurrentMap<LocalDate, LongAdder> byDay, LocalDateTime at, long delta) {
+        if (at == null) {
+            return;
+        }
+        LocalDate day = at.toLocalDate();
+        if (!day.isBefore(windowStart())) {
+            add(byDay, day, delta);
+        }
+    }
+
+    private static <K> void add(ConcurrentMap<K, LongAdder> counters, K key, long delta) {
+        if (key != null) {
+            counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> void seed(ConcurrentMap<K, LongAdder> counters, List<KeyCount> rows) {
+        for (KeyCount row : rows) {
+            add(counters, (K) row.key(), row.count());
+        }
+    }
+
+    private static long sum(LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private static Map<Long, Long> snapshot(ConcurrentMap<Long, LongAdder> counters) {
+        Map<Long, Long> result = new TreeMap<>();
+        counters.forEach((key, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                result.put(key, count);
+            }
+        });
+        return result;
+    }
+}
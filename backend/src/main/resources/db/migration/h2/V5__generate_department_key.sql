@@ -0,0 +1,7 @@
+-- department_key was only set by the application, so rows inserted with plain
+-- SQL had none and were missed by department lookups. The database now derives
+-- it from department.
+drop index idx_internships_department_key;
+alter table internships drop column department_key;
+alter table internships add column department_key varchar(255) generated always as (lower(trim(department)));
+create index idx_internships_department_key on internships (department_key);
@@ -0,0 +1,72 @@
+create table internships (
+    id bigint not null,
+    title varchar(255) not null,
+    department varchar(255) not null,
+    location varchar(255) not null,
+    duration_weeks integer not null,
+    description varchar(255) not null,
+    active bit not null,
+    posted_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table courses (
+    id bigint not null,
+    title varchar(255) not null,
+    instructor varchar(255) not null,
+    description varchar(255) not null,
+    duration varchar(255),
+    category varchar(255),
+    active bit not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table applications (
+    id bigint not null,
+    internship_id bigint not null,
+    full_name varchar(255) not null,
+    email varchar(255) not null,
+    phone varchar(255) not null,
+    resume_url varchar(255),
+    cover_letter varchar(255) not null,
+    applied_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table contact_messages (
+    id bigint not null,
+    name varchar(255) not null,
+    email varchar(255) not null,
+    subject varchar(255) not null,
+    message varchar(255) not null,
+    sent_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table course_enrollments (
+    id bigint not null,
+    course_id bigint not null,
+    full_name varchar(255) not null,
+    email varchar(255) not null,
+    phone varchar(255) not null,
+    address varchar(255) not null,
+    qualification varchar(255) not null,
+    institution varchar(255) not null,
+    experience varchar(255) not null,
+    motivation varchar(1000) not null,
+    enrolled_at datetime(6) not null,
+    primary key (id),
+    constraint fk_course_enrollments_course foreign key (course_id) references courses (id)
+) engine=InnoDB;
+
+-- MySQL has no sequences; Hibernate keeps each pooled id counter in a single-row table.
+create table internships_seq (next_val bigint) engine=InnoDB;
+insert into internships_seq values (1);
+create table courses_seq (next_val bigint) engine=InnoDB;
+insert into courses_seq values (1);
+create table applications_seq (next_val bigint) engine=InnoDB;
+insert into applications_seq values (1);
+create table contact_messages_seq (next_val bigint) engine=InnoDB;
+insert into contact_messages_seq values (1);
+create table course_enrollments_seq (next_val bigint) engine=InnoDB;
+insert into course_enrollments_seq values (1);
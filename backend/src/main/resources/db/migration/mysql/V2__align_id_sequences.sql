@@ -0,0 +1,28 @@
+-- Databases created by ddl-auto before this migration set existed are baselined at V1.
+-- Their rows were given ids by AUTO_INCREMENT, so make sure every pooled id counter
+-- (Hibernate hands out next_val - 49 .. next_val) starts above the highest existing id.
+
+create table if not exists internships_seq (next_val bigint) engine=InnoDB;
+insert into internships_seq (next_val) select 1 from dual where not exists (select 1 from internships_seq);
+update internships_seq set next_val = (select max(id) + 50 from internships)
+where exists (select 1 from internships) and next_val < (select max(id) + 50 from internships);
+
+create table if not exists courses_seq (next_val bigint) engine=InnoDB;
+insert into courses_seq (next_val) select 1 from dual where not exists (select 1 from courses_seq);
+update courses_seq set next_val = (select max(id) + 50 from courses)
+where exists (select 1 from courses) and next_val < (select max(id) + 50 from courses);
+
+create table if not exists applications_seq (next_val bigint) engine=InnoDB;
+insert into applications_seq (next_val) select 1 from dual where not exists (select 1 from applications_seq);
+update applications_seq set next_val = (select max(id) + 50 from applications)
+where exists (select 1 from applications) and next_val < (select max(id) + 50 from applications);
+
+create table if not exists contact_messages_seq (next_val bigint) engine=InnoDB;
+insert into contact_messages_seq (next_val) select 1 from dual where not exists (select 1 from contact_messages_seq);
+update contact_messages_seq set next_val = (select max(id) + 50 from contact_messages)
+where exists (select 1 from contact_messages) and next_val < (select max(id) + 50 from contact_messages);
+
+create table if not exists course_enrollments_seq (next_val bigint) engine=InnoDB;
+insert into course_enrollments_seq (next_val) select 1 from dual where not exists (select 1 from course_enrollments_seq);
+update course_enrollments_seq set next_val = (select max(id) + 50 from course_enrollments)
+where exists (select 1 from course_enrollments) and next_val < (select max(id) + 50 from course_enrollments);
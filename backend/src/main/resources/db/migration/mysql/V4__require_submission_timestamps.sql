@@ -0,0 +1,8 @@
+-- Keyset pagination orders by (posted_at, id) and (applied_at, id); a NULL
+-- timestamp compares as unknown and ends the walk early, so the columns
+-- become NOT NULL. Rows without a timestamp get the epoch and sort last.
+update internships set posted_at = timestamp '1970-01-01 00:00:00' where posted_at is null;
+update applications set applied_at = timestamp '1970-01-01 00:00:00' where applied_at is null;
+
+alter table internships modify posted_at datetime(6) not null;
+alter table applications modify applied_at datetime(6) not null;
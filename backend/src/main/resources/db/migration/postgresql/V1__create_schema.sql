@@ -0,0 +1,66 @@
+create table internships (
+    id bigint not null,
+    title varchar(255) not null,
+    department varchar(255) not null,
+    location varchar(255) not null,
+    duration_weeks integer not null,
+    description varchar(255) not null,
+    active boolean not null,
+    posted_at timestamp(6),
+    primary key (id)
+);
+
+create table courses (
+    id bigint not null,
+    title varchar(255) not null,
+    instructor varchar(255) not null,
+    description varchar(255) not null,
+    duration varchar(255),
+    category varchar(255),
+    active boolean not null,
+    primary key (id)
+);
+
+create table applications (
+    id bigint not null,
+    internship_id bigint not null,
+    full_name varchar(255) not null,
+    email varchar(255) not null,
+    phone varchar(255) not null,
+    resume_url varchar(255),
+    cover_letter varchar(255) not null,
+    applied_at timestamp(6),
+    primary key (id)
+);
+
+create table contact_messages (
+    id bigint not null,
+    name varchar(255) not null,
+    email varchar(255) not null,
+    subject varchar(255) not null,
+    message varchar(255) not null,
+    sent_at timestamp(6),
+    primary key (id)
+);
+
+create table course_enrollments (
+    id bigint not null,
+    course_id bigint not null,
+    full_name varchar(255) not null,
+    email varchar(255) not null,
+    phone varchar(255) not null,
+    address varchar(255) not null,
+    qualification varchar(255) not null,
+    institution varchar(255) not null,
+    experience varchar(255) not null,
+    motivation varchar(1000) not null,
+    enrolled_at timestamp(6) not null,
+    primary key (id),
+    constraint fk_course_enrollments_course foreign key (course_id) references courses (id)
+);
+
+create sequence internships_seq start with 1 increment by 50;
+create sequence courses_seq start with 1 increment by 50;
+create sequence applications_seq start with 1 increment by 50;
+create sequence contact_messages_seq start with 1 increment by 50;
+create sequence course_enrollments_seq start with 1 increment by 50;
@@ -0,0 +1,23 @@
+-- Databases created by ddl-auto before this migration set existed are baselined at V1.
+-- Their rows were given ids by identity columns, so make sure every pooled id sequence
+-- (Hibernate hands out nextval - 49 .. nextval) starts above the highest existing id.
+
+create sequence if not exists internships_seq start with 1 increment by 50;
+select setval('internships_seq', max(id) + 50, false) from internships
+having max(id) + 50 > (select case when is_called then last_value + 50 else last_value end from internships_seq);
+
+create sequence if not exists courses_seq start with 1 increment by 50;
+select setval('courses_seq', max(id) + 50, false) from courses
+having max(id) + 50 > (select case when is_called then last_value + 50 else last_value end from courses_seq);
+
+create sequence if not exists applications_seq start with 1 increment by 50;
+select setval('applications_seq', max(id) + 50, false) from applications
+having max(id) + 50 > (select case when is_called then last_value + 50 else last_value end from applications_seq);
+
+create sequence if not exists contact_messages_seq start with 1 increment by 50;
+select setval('contact_messages_seq', max(id) + 50, false) from contact_messages
+having max(id) + 50 > (select case when is_called then last_value + 50 else last_value end from contact_messages_seq);
+
+create sequence if not exists course_enrollments_seq start with 1 increment by 50;
+select setval('course_enrollments_seq', max(id) + 50, false) from course_enrollments
+having max(id) + 50 > (select case when is_called then last_value + 50 else last_value end from course_enrollments_seq);
@@ -0,0 +1,10 @@
+-- Lower-cased, trimmed department so department lookups can use a plain index
+-- instead of scanning with lower(department).
+alter table internships add column department_key varchar(255);
+update internships set department_key = lower(trim(department));
+
+create index idx_internships_active_posted_at on internships (active, posted_at);
+create index idx_internships_department_key on internships (department_key);
+create index idx_courses_active_category on courses (active, category);
+create index idx_applications_internship_applied_at on applications (internship_id, applied_at);
+create index idx_course_enrollments_course_id on course_enrollments (course_id);
@@ -0,0 +1,109 @@
+package com.webvibes.portal.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load generator for {@code POST /api/applications}, used to compare
+ * platform-thread and virtual-thread request handling against a running backend.
+ * It is not a unit test and surefire does not pick it up. Being JDK-only, it can be
+ * launched straight from source:
+ *
+ * <pre>
+ * VIRTUAL_THREADS_ENABLED=false java -jar target/internship-portal-0.0.1-SNAPSHOT.jar
+ * java src/test/java/com/webvibes/portal/bench/SubmissionLoadBenchmark.java http://localhost:8080 1 400 20000
+ *
+ * VIRTUAL_THREADS_ENABLED=true java -jar target/internship-portal-0.0.1-SNAPSHOT.jar   (built with -Pjava21)
+ * java src/test/java/com/webvibes/portal/bench/SubmissionLoadBenchmark.java http://localhost:8080 1 400 20000
+ * </pre>
+ *
+ * Arguments: base url, internship id, concurrent clients, total requests. A tenth of
+ * the requests (at least 500) are sent first as an unmeasured warm-up.
+ */
+public class SubmissionLoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        long internshipId = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 400;
+        int requests = args.length > 3 ? Integer.parseInt(args[3]) : 20_000;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.min(concurrency, 64)))
+                .build();
+        URI uri = URI.create(baseUrl + "/api/applications");
+
+        run(client, uri, internshipId, concurrency, Math.max(500, requests / 10));
+        Result result = run(client, uri, internshipId, concurrency, requests);
+
+        System.out.printf("requests=%d concurrency=%d elapsed=%.2fs throughput=%.1f req/s%n",
+                requests, concurrency, result.elapsedNanos / 1e9, requests / (result.elapsedNanos / 1e9));
+        System.out.printf("latency ms: p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                result.percentile(0.50), result.percentile(0.95), result.percentile(0.99), result.percentile(1.0));
+        System.out.println("status: " + new TreeMap<>(result.statuses));
+        System.exit(0);
+    }
+
+    private static Result run(HttpClient client, URI uri, long internshipId, int concurrency, int requests)
+            throws InterruptedException {
+        long[] latencies = new long[requests];
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        long started = System.nanoTime();
+        for (int w = 0; w < concurrency; w++) {
+            workers.execute(() -> {
+                for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                            .timeout(Duration.ofSeconds(30))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body(internshipId, i)))
+                            .build();
+                    long sent = System.nanoTime();
+                    int status;
+                    try {
+                        status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    latencies[i] = System.nanoTime() - sent;
+                    statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+        return new Result(System.nanoTime() - started, latencies, statuses);
+    }
+
+    private static String body(long internshipId, int i) {
+        return """
+                {"internshipId":%d,"fullName":"Load Test %d","email":"load%d@example.com",\
+                "phone":"5550100","coverLetter":"Benchmark submission"}""".formatted(internshipId, i, i);
+    }
+
+    private record Result(long elapsedNanos, long[] latencies, Map<Integer, LongAdder> statuses) {
+        Result {
+            Arrays.sort(latencies);
+        }
+
+        double percentile(double p) {
+            int index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
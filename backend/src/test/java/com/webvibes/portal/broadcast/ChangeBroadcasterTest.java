@@ -0,0 +1,150 @@
+package com.webvibes.portal.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.model.Course;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ChangeBroadcasterTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final ChangeBroadcaster broadcaster = new ChangeBroadcaster(messagingTemplate, new ObjectMapper(), 3, false,
+            new SimpleMeterRegistry());
+
+    @Test
+    void testCoalescesChangesPerEntityIntoOneFrame() {
+        Course course = course(1L, "Java");
+        broadcaster.created("/topic/courses", 1L, course);
+        broadcaster.created("/topic/courses", 2L, course(2L, "Design"));
+        Map<String, Object> before = broadcaster.fields(course);
+        course.setTitle("Advanced Java");
+        broadcaster.updated("/topic/courses", 1L, before, course);
+
+        verifyNoInteractions(messagingTemplate);
+
+        List<ChangeEvent> events = flushAndCapture("/topic/courses");
+        assertEquals(2, events.size());
+        assertEquals(new ChangeEvent(broadcaster.epoch(), 1, ChangeEvent.Op.created, 1L, broadcaster.fields(course)), events.get(0));
+        assertEquals(2, events.get(1).seq());
+        assertEquals(2L, events.get(1).id());
+    }
+
+    @Test
+    void testUpdateCarriesOnlyChangedFields() {
+        Course course = course(1L, "Java");
+        Map<String, Object> before = broadcaster.fields(course);
+        course.setCategory("Backend");
+        broadcaster.updated("/topic/courses", 1L, before, course);
+
+        List<ChangeEvent> events = flushAndCapture("/topic/courses");
+        assertEquals(ChangeEvent.Op.updated, events.get(0).op());
+        assertEquals(Map.of("category", "Backend"), events.get(0).changes());
+    }
+
+    @Test
+    void testDeleteWinsWithinWindow() {
+        broadcaster.created("/topic/courses", 1L, course(1L, "Java"));
+        broadcaster.deleted("/topic/courses", 1L);
+
+        List<ChangeEvent> events = flushAndCapture("/topic/courses");
+        assertEquals(List.of(new ChangeEvent(broadcaster.epoch(), 1, ChangeEvent.Op.deleted, 1L, Map.of())), events);
+    }
+
+    @Test
+    void testImportsWithinWindowShareOneSummary() {
+        broadcaster.imported("/topic/courses", List.of(1L, 2L));
+        broadcaster.imported("/topic/courses", List.of(3L));
+
+        List<ChangeEvent> events = flushAndCapture("/topic/courses");
+        assertEquals(List.of(new ChangeEvent(broadcaster.epoch(), 1, ChangeEvent.Op.imported, null,
+                Map.of("count", 3, "ids", List.of(1L, 2L, 3L)))), events);
+    }
+
+    @Test
+    void testEmptyWindowSendsNothing() {
+        broadcaster.deleted("/topic/courses", 1L);
+        broadcaster.flush();
+        broadcaster.flush();
+
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void testReplaysEventsSinceSequence() {
+        for (long id = 1; id <= 2; id++) {
+            broadcaster.deleted("/topic/courses", id);
+            broadcaster.flush();
+        }
+
+        ChangeReplay replay = broadcaster.replay("/topic/courses", broadcaster.epoch(), 1).orElseThrow();
+        assertEquals(2, replay.latestSeq());
+        assertEquals(List.of(2L), replay.events().stream().map(ChangeEvent::id).toList());
+        assertTrue(broadcaster.replay("/topic/courses", broadcaster.epoch(), 2).orElseThrow().events().isEmpty());
+        assertTrue(broadcaster.replay("/topic/internships", broadcaster.epoch(), 0).orElseThrow().events().isEmpty());
+    }
+
+    @Test
+    void testReplayFailsOnceEventsAreEvicted() {
+        for (long id = 1; id <= 5; id++) {
+            broadcaster.deleted("/topic/courses", id);
+            broadcaster.flush();
+        }
+
+        assertTrue(broadcaster.replay("/topic/courses", broadcaster.epoch(), 1).isEmpty());
+        assertEquals(3, broadcaster.replay("/topic/courses", broadcaster.epoch(), 2).orElseThrow().events().size());
+        assertTrue(broadcaster.replay("/topic/courses", broadcaster.epoch(), 9).isEmpty());
+    }
+
+    @Test
+    void testReplayFailsForAnotherEpoch() {
+        broadcaster.deleted("/topic/courses", 1L);
+        broadcaster.flush();
+        ChangeBroadcaster otherNode = new ChangeBroadcaster(messagingTemplate, new ObjectMapper(), 3, false,
+                new SimpleMeterRegistry());
+
+        assertNotEquals(broadcaster.epoch(), otherNode.epoch());
+        assertTrue(broadcaster.replay("/topic/courses", otherNode.epoch(), 0).isEmpty());
+        assertEquals(1, broadcaster.replay("/topic/courses", null, 0).orElseThrow().events().size());
+    }
+
+    @Test
+    void testRecordsBroadcastMetersPerTopic() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChangeBroadcaster metered = new ChangeBroadcaster(messagingTemplate, new ObjectMapper(), 3, false, registry);
+        metered.deleted("/topic/courses", 1L);
+        metered.deleted("/topic/courses", 2L);
+        metered.flush();
+
+        assertEquals(1, registry.get("websocket.broadcast").tag("topic", "/topic/courses").timer().count());
+        assertEquals(2, registry.get("websocket.broadcast.events").tag("topic", "/topic/courses").counter().count());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ChangeEvent> flushAndCapture(String topic) {
+        broadcaster.flush();
+        ArgumentCaptor<Object> frame = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq(topic), frame.capture());
+        return (List<ChangeEvent>) frame.getValue();
+    }
+
+    private Course course(Long id, String title) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle(title);
+        course.setInstructor("Instructor");
+        course.setDescription("Description");
+        course.setCategory("Programming");
+        return course;
+    }
+}
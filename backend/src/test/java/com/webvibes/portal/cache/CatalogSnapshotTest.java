@@ -0,0 +1,159 @@
+package com.webvibes.portal.cache;
+
+import com.webvibes.portal.model.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    private final List<Course> table = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CatalogSnapshot<Course> snapshot;
+
+    @BeforeEach
+    void setUp() {
+        table.clear();
+        loads.set(0);
+        snapshot = new CatalogSnapshot<>(() -> {
+            loads.incrementAndGet();
+            return table.stream().filter(Course::isActive).toList();
+        }, Course::getId, Course::isActive, Duration.ofHours(1));
+    }
+
+    @Test
+    void testServesFromMemoryAfterFirstLoad() {
+        table.add(course(1L, "Java", true));
+
+        assertEquals(1, snapshot.items().size());
+        assertEquals(1, snapshot.items().size());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testPutAndRemovePatchWithoutReload() {
+        table.add(course(2L, "Java", true));
+        long initialVersion = snapshot.version();
+
+        snapshot.put(course(1L, "Design", true));
+        snapshot.put(course(2L, "Java", false));
+        assertEquals(List.of("Design"), snapshot.items().stream().map(Course::getTitle).toList());
+
+        snapshot.remove(1L);
+        assertTrue(snapshot.items().isEmpty());
+        assertEquals(1, loads.get());
+        assertTrue(snapshot.version() > initialVersion);
+    }
+
+    @Test
+    void testNoOpPatchKeepsVersion() {
+        long version = snapshot.version();
+
+        snapshot.put(course(5L, "Inactive", false));
+        snapshot.remove(6L);
+
+        assertEquals(version, snapshot.version());
+    }
+
+    @Test
+    void testStaleSnapshotReloadsAndKeepsVersionWhenUnchanged() {
+        CatalogSnapshot<Course> uncached = new CatalogSnapshot<>(() -> {
+            loads.incrementAndGet();
+            return List.copyOf(table);
+        }, Course::getId, Course::isActive, Duration.ZERO);
+        table.add(course(1L, "Java", true));
+
+        long version = uncached.version();
+        assertEquals(version, uncached.version());
+        assertEquals(2, loads.get());
+
+        table.add(course(2L, "Design", true));
+        assertTrue(uncached.version() > version);
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        snapshot.items();
+        table.add(course(1L, "Java", true));
+
+        snapshot.invalidate();
+
+        assertEquals(1, snapshot.items().size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testStaleViewIsServedWhileAnotherThreadReloads() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean block = new AtomicBoolean();
+        CatalogSnapshot<Course> slow = new CatalogSnapshot<>(() -> {
+            if (block.get()) {
+                loading.countDown();
+                await(release);
+            }
+            return List.copyOf(table);
+        }, Course::getId, Course::isActive, Duration.ZERO);
+        table.add(course(1L, "Java", true));
+        slow.items();
+
+        block.set(true);
+        table.add(course(2L, "Design", true));
+        CompletableFuture<List<Course>> reload = CompletableFuture.supplyAsync(slow::items);
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, slow.items().size(), "served stale while the other thread loads");
+        slow.put(course(3L, "Data", true));
+        release.countDown();
+
+        assertEquals(List.of(1L, 2L, 3L), reload.get(5, TimeUnit.SECONDS).stream().map(Course::getId).toList());
+    }
+
+    @Test
+    void testReloadDoesNotUndoRemoveMadeDuringLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Course> stale = List.of(course(1L, "Java", true), course(2L, "Design", true));
+        CatalogSnapshot<Course> slow = new CatalogSnapshot<>(() -> {
+            loading.countDown();
+            await(release);
+            return stale;
+        }, Course::getId, Course::isActive, Duration.ofHours(1));
+
+        CompletableFuture<List<Course>> load = CompletableFuture.supplyAsync(slow::items);
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        slow.remove(2L);
+        release.countDown();
+
+        assertEquals(List.of(1L), load.get(5, TimeUnit.SECONDS).stream().map(Course::getId).toList());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Course course(Long id, String title, boolean active) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle(title);
+        course.setInstructor("Instructor");
+        course.setDescription("Description");
+        course.setActive(active);
+        return course;
+    }
+}
@@ -0,0 +1,85 @@
+package com.webvibes.portal.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.model.Course;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedSnapshotTest {
+
+    private final List<Course> table = new ArrayList<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CatalogSnapshot<Course> snapshot = new CatalogSnapshot<>(
+            () -> List.copyOf(table), Course::getId, Course::isActive, Duration.ofHours(1));
+    private final SerializedSnapshot<Course> serialized = new SerializedSnapshot<>(snapshot, objectMapper.writer());
+
+    @Test
+    void testReusesEncodedBodyUntilViewChanges() throws IOException {
+        table.add(course(1L, "Java"));
+
+        SerializedSnapshot.Body first = serialized.body();
+        assertSame(first, serialized.body());
+        assertEquals(objectMapper.writeValueAsString(snapshot.items()), new String(first.identity()));
+        assertArrayEquals(first.identity(), gunzip(first.gzip()));
+
+        snapshot.put(course(2L, "Design"));
+        SerializedSnapshot.Body second = serialized.body();
+        assertNotSame(first, second);
+        assertNotEquals(first.etag(), second.etag());
+        assertTrue(new String(second.identity()).contains("Design"));
+    }
+
+    @Test
+    void testSameContentGetsSameEtagOnEveryNode() {
+        table.add(course(1L, "Java"));
+        CatalogSnapshot<Course> otherNode = new CatalogSnapshot<>(
+                () -> List.copyOf(table), Course::getId, Course::isActive, Duration.ofHours(1));
+        otherNode.items();
+        otherNode.put(course(9L, "Patched"));
+        otherNode.remove(9L);
+
+        SerializedSnapshot<Course> other = new SerializedSnapshot<>(otherNode, objectMapper.writer());
+
+        assertNotEquals(snapshot.version(), otherNode.version());
+        assertEquals(serialized.body().etag(), other.body().etag());
+    }
+
+    @Test
+    void testGzipVariantHasItsOwnValidator() {
+        SerializedSnapshot.Body body = serialized.body();
+        assertNotEquals(body.etag(false), body.etag(true));
+        assertEquals(body.etag(), body.etag(false));
+    }
+
+    @Test
+    void testAcceptEncodingNegotiation() {
+        assertTrue(SerializedSnapshot.acceptsGzip("gzip, deflate, br"));
+        assertTrue(SerializedSnapshot.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(SerializedSnapshot.acceptsGzip("*"));
+        assertFalse(SerializedSnapshot.acceptsGzip("gzip;q=0"));
+        assertFalse(SerializedSnapshot.acceptsGzip("identity"));
+        assertFalse(SerializedSnapshot.acceptsGzip(null));
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Course course(Long id, String title) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle(title);
+        course.setActive(true);
+        return course;
+    }
+}
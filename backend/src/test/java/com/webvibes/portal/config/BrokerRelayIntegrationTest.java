@@ -0,0 +1,136 @@
+package com.webvibes.portal.config;
+
+import com.webvibes.portal.InternshipPortalApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrokerRelayIntegrationTest {
+
+    private static EmbeddedStompBroker broker;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startCluster() throws Exception {
+        broker = new EmbeddedStompBroker();
+        nodeA = startNode();
+        nodeB = startNode();
+        awaitBrokerAvailable(nodeA);
+        awaitBrokerAvailable(nodeB);
+    }
+
+    @AfterAll
+    static void stopCluster() throws Exception {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (broker != null) {
+            broker.close();
+        }
+    }
+
+    @Test
+    void testChangeOnOneNodeReachesSubscriberOnAnother() throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        stompClient.setTaskScheduler(scheduler);
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port(nodeB) + "/ws/websocket", new StompSessionHandlerAdapter() {})
+                .get(10, TimeUnit.SECONDS);
+
+        BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        session.setAutoReceipt(true);
+        session.subscribe("/topic/internships", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return List.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add(payload);
+            }
+        }).addReceiptTask(subscribed::countDown);
+        assertTrue(subscribed.await(10, TimeUnit.SECONDS));
+
+        HttpStatus status = (HttpStatus) RestClient.create("http://localhost:" + port(nodeA))
+                .post().uri("/api/internships")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of(
+                        "title", "Relay Internship",
+                        "department", "Engineering",
+                        "location", "Remote",
+                        "durationWeeks", 8,
+                        "description", "Published on node A"))
+                .retrieve().toBodilessEntity().getStatusCode();
+        assertEquals(HttpStatus.CREATED, status);
+
+        Object frame = received.poll(10, TimeUnit.SECONDS);
+        assertNotNull(frame, "node B subscriber did not receive the change published on node A");
+        Map<?, ?> event = (Map<?, ?>) ((List<?>) frame).get(0);
+        assertEquals("created", event.get("op"));
+        assertEquals("Relay Internship", ((Map<?, ?>) event.get("changes")).get("title"));
+
+        session.disconnect();
+        stompClient.stop();
+        scheduler.shutdown();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(InternshipPortalApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--spring.datasource.url=jdbc:h2:mem:relaydb;DB_CLOSE_DELAY=-1",
+                        "--websocket.broker.mode=relay",
+                        "--websocket.broker.relay-host=localhost",
+                        "--websocket.broker.relay-port=" + broker.port());
+    }
+
+    private static void awaitBrokerAvailable(ConfigurableApplicationContext node) throws InterruptedException {
+        AbstractBrokerMessageHandler relay =
+                node.getBean("stompBrokerRelayMessageHandler", AbstractBrokerMessageHandler.class);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!relay.isBrokerAvailable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(relay.isBrokerAvailable(), "relay did not connect to the embedded broker");
+    }
+
+    private static int port(ConfigurableApplicationContext node) {
+        return ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,63 @@
+package com.webvibes.portal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DataSourcePoolIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void testPoolIsConfiguredFromProperties() {
+        HikariDataSource pool = assertInstanceOf(HikariDataSource.class, dataSource);
+        assertEquals("portal-pool", pool.getPoolName());
+        assertEquals(30000, pool.getLeakDetectionThreshold());
+        assertTrue(pool.getDataSourceProperties().isEmpty(), "H2 gets no driver statement cache options");
+    }
+
+    @Test
+    void testMysqlDriverOptionsDoNotDependOnTheUrl() {
+        HikariDataSource mysql = new HikariDataSource();
+        mysql.setJdbcUrl("jdbc:mysql://db.internal:3306/webvibes_portal");
+
+        DataSourcePoolConfig.statementCachePostProcessor(new MockEnvironment())
+                .postProcessBeforeInitialization(mysql, "dataSource");
+
+        assertEquals("true", mysql.getDataSourceProperties().getProperty("useCursorFetch"));
+        assertEquals("true", mysql.getDataSourceProperties().getProperty("rewriteBatchedStatements"));
+        assertEquals("true", mysql.getDataSourceProperties().getProperty("cachePrepStmts"));
+    }
+
+    @Test
+    void testPoolMetricsAreExported() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.names", hasItem("hikaricp.connections.active")))
+                .andExpect(jsonPath("$.names", hasItem("hikaricp.connections.pending")))
+                .andExpect(jsonPath("$.names", hasItem("hikaricp.connections.acquire")));
+
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.idle").param("tag", "pool:portal-pool"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").exists());
+    }
+}
@@ -0,0 +1,127 @@
+package com.webvibes.portal.config;
+
+import com.webvibes.portal.broadcast.ChangeBroadcaster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:nativews;DB_CLOSE_DELAY=-1",
+        "websocket.binary.enabled=true"
+})
+@ActiveProfiles("test")
+class NativeWebSocketIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SimpleBrokerMessageHandler broker;
+
+    @Test
+    void testNativeEndpointNegotiatesPerMessageDeflate() throws Exception {
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.setSecWebSocketExtensions(List.of(new WebSocketExtension("permessage-deflate")));
+        WebSocketSession session = new StandardWebSocketClient()
+                .execute(new AbstractWebSocketHandler() {}, headers, URI.create("ws://localhost:" + port + "/stomp"))
+                .get(10, TimeUnit.SECONDS);
+
+        assertTrue(session.getExtensions().stream().anyMatch(e -> e.getName().equals("permessage-deflate")));
+        session.close();
+    }
+
+    @Test
+    void testChangesArePublishedAsCborOnNativeEndpoint() throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(ChangeBroadcaster.binaryConverter());
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        stompClient.setTaskScheduler(scheduler);
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port + "/stomp", new StompSessionHandlerAdapter() {})
+                .get(10, TimeUnit.SECONDS);
+
+        BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+        BlockingQueue<String> contentTypes = new LinkedBlockingQueue<>();
+        session.subscribe("/topic/internships" + ChangeBroadcaster.BINARY_SUFFIX, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return List.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                contentTypes.add(String.valueOf(headers.getContentType()));
+                received.add(payload);
+            }
+        });
+        awaitSubscription("/topic/internships" + ChangeBroadcaster.BINARY_SUFFIX);
+
+        HttpStatus status = (HttpStatus) RestClient.create("http://localhost:" + port)
+                .post().uri("/api/internships")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of(
+                        "title", "Binary Internship",
+                        "department", "Engineering",
+                        "location", "Remote",
+                        "durationWeeks", 8,
+                        "description", "Sent as CBOR"))
+                .retrieve().toBodilessEntity().getStatusCode();
+        assertEquals(HttpStatus.CREATED, status);
+
+        Object frame = received.poll(10, TimeUnit.SECONDS);
+        assertNotNull(frame, "no CBOR frame received on the native endpoint");
+        assertEquals("application/octet-stream;format=cbor", contentTypes.poll());
+        Map<?, ?> event = (Map<?, ?>) ((List<?>) frame).get(0);
+        assertEquals("created", event.get("op"));
+        assertEquals("Binary Internship", ((Map<?, ?>) event.get("changes")).get("title"));
+
+        session.disconnect();
+        stompClient.stop();
+        scheduler.shutdown();
+    }
+
+    // The simple broker sends no RECEIPT frames, so wait until it has registered the subscription.
+    private void awaitSubscription(String destination) throws InterruptedException {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        Message<byte[]> probe = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (broker.getSubscriptionRegistry().findSubscriptions(probe).isEmpty()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(broker.getSubscriptionRegistry().findSubscriptions(probe).isEmpty(), "subscription not registered");
+    }
+}
@@ -0,0 +1,185 @@
+package com.webvibes.portal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.cache.CatalogSnapshot;
+import com.webvibes.portal.model.Internship;
+import com.webvibes.portal.stats.SubmissionStats;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Two H2 databases stand in for a primary and its replica; rows inserted
+ * straight into one of them show which database served a request.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "datasource.replicas.urls=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "datasource.replicas.lag-query=SELECT lag_seconds FROM replica_lag",
+        "datasource.replicas.max-lag-ms=5000",
+        "datasource.replicas.lag-check-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    static {
+        // Replication is simulated: the replica gets the same schema and a table the lag query reads
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").locations("classpath:db/migration/h2").load().migrate();
+        replica.execute("CREATE TABLE replica_lag (lag_seconds INT)");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaDataSource;
+
+    @Autowired
+    private HikariDataSource primaryPool;
+
+    @Autowired
+    private CatalogSnapshot<Internship> activeInternships;
+
+    @Autowired
+    private SubmissionStats submissionStats;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        replica.update("DELETE FROM internships WHERE title LIKE 'Routing %'");
+        new JdbcTemplate(primaryDataSource).update("DELETE FROM internships WHERE title LIKE 'Routing %'");
+        replica.update("DELETE FROM applications WHERE full_name LIKE 'Routing %'");
+        new JdbcTemplate(primaryDataSource).update("DELETE FROM applications WHERE full_name LIKE 'Routing %'");
+        replica.update("UPDATE replica_lag SET lag_seconds = 0");
+        replicaDataSource.checkLag();
+    }
+
+    @Test
+    void testReadOnlyReadsAreServedByReplica() throws Exception {
+        insertIntoReplica("Routing Replica Row");
+
+        mockMvc.perform(get("/api/internships"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", hasItem("Routing Replica Row")));
+    }
+
+    @Test
+    void testWritesGoToPrimary() throws Exception {
+        Map<String, Object> payload = Map.of("title", "Routing Write", "department", "Engineering",
+                "location", "Remote", "durationWeeks", 8, "description", "Written through the primary", "active", true);
+
+        mockMvc.perform(post("/api/internships")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isCreated());
+
+        String count = "SELECT COUNT(*) FROM internships WHERE title = 'Routing Write'";
+        assertEquals(1, new JdbcTemplate(primaryDataSource).queryForObject(count, Integer.class));
+        assertEquals(0, replica.queryForObject(count, Integer.class));
+    }
+
+    @Test
+    void testLaggingReplicaFallsBackToPrimary() throws Exception {
+        insertIntoReplica("Routing Replica Row");
+        replica.update("UPDATE replica_lag SET lag_seconds = 60");
+        replicaDataSource.checkLag();
+        assertFalse(replicaDataSource.hasUsableReplica());
+
+        mockMvc.perform(get("/api/internships"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", not(hasItem("Routing Replica Row"))));
+
+        mockMvc.perform(get("/actuator/metrics/datasource.replica.fallbacks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value", greaterThanOrEqualTo(1.0)));
+    }
+
+    @Test
+    void testCatalogSnapshotReloadsFromPrimary() {
+        insertIntoReplica("Routing Replica Row");
+        insert(new JdbcTemplate(primaryDataSource), "Routing Primary Row");
+
+        activeInternships.invalidate();
+
+        List<String> titles = readOnly(() -> activeInternships.items()).stream().map(Internship::getTitle).toList();
+        assertTrue(titles.contains("Routing Primary Row"));
+        assertFalse(titles.contains("Routing Replica Row"));
+    }
+
+    @Test
+    void testStatsAreSeededFromPrimary() {
+        String application = "INSERT INTO applications (id, internship_id, full_name, email, phone, cover_letter, applied_at)"
+                + " VALUES (NEXT VALUE FOR applications_seq, 424242, 'Routing Applicant', 'a@example.com', '123', 'letter',"
+                + " CURRENT_TIMESTAMP)";
+        replica.update(application);
+        replica.update(application);
+        new JdbcTemplate(primaryDataSource).update(application);
+
+        readOnly(() -> {
+            submissionStats.reseed();
+            return null;
+        });
+
+        assertEquals(1, submissionStats.applications(424242L));
+    }
+
+    @Test
+    void testReplicaUrlsWithoutAnyUrlAreRejected() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new ReplicaRoutingConfig()
+                .replicaDataSource(primaryPool, " , ", "sa", "", 5000, "", new SimpleMeterRegistry()));
+        assertEquals("datasource.replicas.urls lists no JDBC URL: ' , '", e.getMessage());
+    }
+
+    /** Runs {@code work} inside a read-only transaction, whose connection comes from the replica. */
+    private <T> T readOnly(Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> work.get());
+    }
+
+    private void insertIntoReplica(String title) {
+        insert(replica, title);
+    }
+
+    private static void insert(JdbcTemplate jdbc, String title) {
+        jdbc.update("INSERT INTO internships (id, title, department, location, duration_weeks, description, active, posted_at)"
+                + " VALUES (NEXT VALUE FOR internships_seq, ?, 'Engineering', 'Remote', 8, 'Only on the replica', TRUE, CURRENT_TIMESTAMP)", title);
+    }
+}
@@ -0,0 +1,49 @@
+package com.webvibes.portal.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+class VirtualThreadsIntegrationTest {
+
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private ExecutorSubscribableChannel inboundChannel;
+
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private ExecutorSubscribableChannel outboundChannel;
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void testStompChannelsRunOnVirtualThreads() throws Exception {
+        SimpleAsyncTaskExecutor inbound = assertInstanceOf(SimpleAsyncTaskExecutor.class, inboundChannel.getExecutor());
+        assertInstanceOf(SimpleAsyncTaskExecutor.class, outboundChannel.getExecutor());
+
+        CompletableFuture<Thread> thread = new CompletableFuture<>();
+        inbound.execute(() -> thread.complete(Thread.currentThread()));
+        assertTrue(thread.get(5, TimeUnit.SECONDS).getName().startsWith("clientInboundChannel-"));
+        assertEquals(true, Thread.class.getMethod("isVirtual").invoke(thread.get()));
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void testPlatformPoolsAreKeptBelowJava21() {
+        assertInstanceOf(ThreadPoolTaskExecutor.class, inboundChannel.getExecutor());
+        assertInstanceOf(ThreadPoolTaskExecutor.class, outboundChannel.getExecutor());
+    }
+}
@@ -0,0 +1,51 @@
+package com.webvibes.portal.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "websocket.inbound.core-pool-size=3",
+        "websocket.inbound.max-pool-size=6",
+        "websocket.outbound.core-pool-size=4",
+        "websocket.outbound.queue-capacity=50",
+        "websocket.transport.send-time-limit-ms=1500",
+        "websocket.transport.send-buffer-size-limit=4096"
+})
+@ActiveProfiles("test")
+class WebSocketConfigIntegrationTest {
+
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private ExecutorSubscribableChannel inboundChannel;
+
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private ExecutorSubscribableChannel outboundChannel;
+
+    @Autowired
+    private SubProtocolWebSocketHandler webSocketHandler;
+
+    @Test
+    void testChannelPoolsAreSizedFromProperties() {
+        ThreadPoolTaskExecutor inbound = (ThreadPoolTaskExecutor) inboundChannel.getExecutor();
+        ThreadPoolTaskExecutor outbound = (ThreadPoolTaskExecutor) outboundChannel.getExecutor();
+        assertEquals(3, inbound.getCorePoolSize());
+        assertEquals(6, inbound.getMaxPoolSize());
+        assertEquals(4, outbound.getCorePoolSize());
+        assertEquals(50, outbound.getQueueCapacity());
+    }
+
+    @Test
+    void testSessionSendLimitsAreApplied() {
+        assertEquals(1500, webSocketHandler.getSendTimeLimit());
+        assertEquals(4096, webSocketHandler.getSendBufferSizeLimit());
+    }
+}
@@ -0,0 +1,94 @@
+package com.webvibes.portal.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WebSocketSessionMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final WebSocketSessionMetrics metrics = new WebSocketSessionMetrics(registry);
+
+    @Test
+    void testSendsAreTimedAndOpenSessionsGauged() throws Exception {
+        AtomicReference<WebSocketSession> seen = new AtomicReference<>();
+        WebSocketHandler handler = metrics.decorate(new AbstractWebSocketHandler() {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) {
+                seen.set(session);
+            }
+        });
+        WebSocketSession session = mock(WebSocketSession.class);
+
+        handler.afterConnectionEstablished(session);
+        seen.get().sendMessage(new TextMessage("frame"));
+
+        verify(session).sendMessage(any());
+        assertEquals(1, registry.get("websocket.sessions.open").gauge().value());
+        assertEquals(1, registry.get("websocket.sessions.send").timer().count());
+
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+        assertEquals(0, registry.get("websocket.sessions.open").gauge().value());
+        assertEquals(0, registry.get("websocket.sessions.dropped").counter().count());
+    }
+
+    @Test
+    void testSessionsClosedForLimitsCountAsDropped() throws Exception {
+        WebSocketHandler handler = metrics.decorate(new AbstractWebSocketHandler() {});
+        WebSocketSession slow = mock(WebSocketSession.class);
+        WebSocketSession normal = mock(WebSocketSession.class);
+
+        handler.afterConnectionEstablished(slow);
+        handler.afterConnectionEstablished(normal);
+        handler.afterConnectionClosed(slow, CloseStatus.SESSION_NOT_RELIABLE);
+        handler.afterConnectionClosed(normal, CloseStatus.GOING_AWAY);
+
+        assertEquals(1, registry.get("websocket.sessions.dropped").counter().count());
+        assertEquals(2, registry.get("websocket.sessions.closed").counter().count());
+    }
+
+    @Test
+    void testSubscribersAreGaugedPerDestination() {
+        metrics.subscribed(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "0", "/topic/courses")));
+        metrics.subscribed(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "1", "/topic/internships")));
+        metrics.subscribed(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "0", "/topic/courses")));
+        assertEquals(2, subscribers("/topic/courses"));
+        assertEquals(1, subscribers("/topic/internships"));
+
+        metrics.unsubscribed(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s2", "0", null)));
+        assertEquals(1, subscribers("/topic/courses"));
+
+        metrics.disconnected(new SessionDisconnectEvent(this, frame(StompCommand.DISCONNECT, "s1", null, null),
+                "s1", CloseStatus.NORMAL));
+        assertEquals(0, subscribers("/topic/courses"));
+        assertEquals(0, subscribers("/topic/internships"));
+    }
+
+    private double subscribers(String destination) {
+        return registry.get("websocket.subscribers").tag("destination", destination).gauge().value();
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -1,6 +1,7 @@
 package com.webvibes.portal.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.webvibes.portal.model.Application;
 import com.webvibes.portal.model.Internship;
 import com.webvibes.portal.repository.ApplicationRepository;
@@ -15,7 +16,11 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -94,6 +99,54 @@ class ApplicationControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].fullName").value("Bob Johnson"));
     }
 
+    @Test
+    void testListApplicationsByCursor() throws Exception {
+        Application older = createTestApplication("Alice Smith", "alice@example.com");
+        older.setAppliedAt(LocalDateTime.now().minusDays(1));
+        applicationRepository.save(older);
+        applicationRepository.save(createTestApplication("Bob Johnson", "bob@example.com"));
+
+        String cursor = JsonPath.read(mockMvc.perform(get("/api/applications").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].fullName").value("Bob Johnson"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/applications").param("limit", "1").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].fullName").value("Alice Smith"))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void testApplicationSummariesOmitCoverLetter() throws Exception {
+        Application saved = applicationRepository.save(createTestApplication("Alice Smith", "alice@example.com"));
+
+        mockMvc.perform(get("/api/applications").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].fullName").value("Alice Smith"))
+                .andExpect(jsonPath("$[0].coverLetter").doesNotExist());
+
+        mockMvc.perform(get("/api/applications").param("view", "summary").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].email").value("alice@example.com"))
+                .andExpect(jsonPath("$.items[0].coverLetter").doesNotExist());
+
+        mockMvc.perform(get("/api/applications/internship/" + testInternshipId).param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].coverLetter").doesNotExist());
+
+        mockMvc.perform(get("/api/applications/" + saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.coverLetter").value("I am interested in this position."));
+        mockMvc.perform(get("/api/applications/" + (saved.getId() + 1000)))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testGetApplicationsByInternship() throws Exception {
         // Create another internship
@@ -132,6 +185,47 @@ class ApplicationControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].fullName").value("Charlie Brown"));
     }
 
+    @Test
+    void testExportApplicationsAsNdjson() throws Exception {
+        applicationRepository.save(createTestApplication("Alice Smith", "alice@example.com"));
+        applicationRepository.save(createTestApplication("Bob Johnson", "bob@example.com"));
+
+        String body = mockMvc.perform(get("/api/applications/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", containsString("applications.ndjson")))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Alice Smith", objectMapper.readTree(lines[0]).get("fullName").asText());
+        assertEquals("Bob Johnson", objectMapper.readTree(lines[1]).get("fullName").asText());
+    }
+
+    @Test
+    void testExportApplicationsAsCsv() throws Exception {
+        Application application = createTestApplication("Smith, Alice", "alice@example.com");
+        application.setCoverLetter("Says \"hello\"");
+        applicationRepository.save(application);
+
+        String body = mockMvc.perform(get("/api/applications/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,internshipId,fullName,email"));
+        assertTrue(lines[1].contains(",\"Smith, Alice\",alice@example.com,"));
+        assertTrue(lines[1].contains(",\"Says \"\"hello\"\"\","));
+    }
+
+    @Test
+    void testExportApplications_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/applications/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testCreateApplication_ValidationError() throws Exception {
         Application application = new Application();
@@ -0,0 +1,86 @@
+package com.webvibes.portal.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.webvibes.portal.broadcast.ChangeBroadcaster;
+import com.webvibes.portal.model.Course;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class ChangeControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeBroadcaster changeBroadcaster;
+
+    @Test
+    void testReplayChangesSinceSequence() throws Exception {
+        changeBroadcaster.flush();
+        int since = JsonPath.read(mockMvc.perform(get("/api/changes/courses"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$.latestSeq");
+
+        Course course = new Course();
+        course.setTitle("Replayed Course");
+        course.setInstructor("Instructor");
+        course.setDescription("Description");
+        String body = mockMvc.perform(post("/api/courses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(course)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Integer id = JsonPath.read(body, "$.id");
+        changeBroadcaster.flush();
+
+        mockMvc.perform(get("/api/changes/courses").param("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.latestSeq").value(since + 1))
+                .andExpect(jsonPath("$.events", hasSize(1)))
+                .andExpect(jsonPath("$.events[0].seq").value(since + 1))
+                .andExpect(jsonPath("$.events[0].epoch").value(changeBroadcaster.epoch()))
+                .andExpect(jsonPath("$.events[0].op").value("created"))
+                .andExpect(jsonPath("$.events[0].id").value(id))
+                .andExpect(jsonPath("$.events[0].changes.title").value("Replayed Course"));
+    }
+
+    @Test
+    void testReplayFromAnotherEpochIsGone() throws Exception {
+        mockMvc.perform(get("/api/changes/courses").param("since", "0").param("epoch", "other-node"))
+                .andExpect(status().isGone());
+
+        mockMvc.perform(get("/api/changes/courses").param("since", "0").param("epoch", changeBroadcaster.epoch()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.epoch").value(changeBroadcaster.epoch()));
+    }
+
+    @Test
+    void testReplayFromFutureSequenceIsGone() throws Exception {
+        mockMvc.perform(get("/api/changes/internships").param("since", "1000000"))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void testReplayUnknownTopic() throws Exception {
+        mockMvc.perform(get("/api/changes/contact"))
+                .andExpect(status().isNotFound());
+    }
+}
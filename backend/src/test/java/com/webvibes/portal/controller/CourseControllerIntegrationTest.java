@@ -1,6 +1,8 @@
 package com.webvibes.portal.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.webvibes.portal.cache.CatalogSnapshot;
 import com.webvibes.portal.model.Course;
 import com.webvibes.portal.repository.CourseRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,9 +34,13 @@ class CourseControllerIntegrationTest {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private CatalogSnapshot<Course> activeCourses;
+
     @BeforeEach
     void setUp() {
         courseRepository.deleteAll();
+        activeCourses.invalidate();
     }
 
     @Test
@@ -75,6 +81,26 @@ class CourseControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].title").value("UI/UX Design"));
     }
 
+    @Test
+    void testListCoursesByCursor() throws Exception {
+        courseRepository.save(createTestCourse("Web Development", "Jane Smith", "Programming"));
+        courseRepository.save(createTestCourse("UI/UX Design", "Bob Johnson", "Design"));
+        courseRepository.save(createTestCourse("Data Science", "Dr. Smith", "Analytics"));
+
+        String cursor = JsonPath.read(mockMvc.perform(get("/api/courses").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].title").value("Data Science"))
+                .andExpect(jsonPath("$.items[1].title").value("UI/UX Design"))
+                .andReturn().getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/courses").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("Web Development"))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
     @Test
     void testGetActiveCourses() throws Exception {
         Course active = createTestCourse("Active Course", "Instructor A", "Programming");
@@ -93,6 +119,26 @@ class CourseControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].active").value(true));
     }
 
+    @Test
+    void testActiveCoursesConditionalGet() throws Exception {
+        Course saved = courseRepository.save(createTestCourse("Active Course", "Instructor A", "Programming"));
+
+        String etag = mockMvc.perform(get("/api/courses/active"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/courses/active").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(delete("/api/courses/" + saved.getId()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/courses/active").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
     @Test
     void testGetCourseById() throws Exception {
         Course course = createTestCourse("Data Science", "Dr. Smith", "Analytics");
@@ -163,6 +209,38 @@ class CourseControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void testImportCoursesFromCsv() throws Exception {
+        String csv = "title,instructor,description,duration,category\n"
+                + "Web Development,Jane Smith,HTML and CSS,6 weeks,Programming\n"
+                + "UI/UX Design,Bob Johnson,Figma basics,4 weeks,Design\n";
+
+        mockMvc.perform(post("/api/courses/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.batches").value(1));
+
+        mockMvc.perform(get("/api/courses/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void testCourseFacets() throws Exception {
+        courseRepository.save(createTestCourse("Web Development", "Jane Smith", "Programming"));
+        courseRepository.save(createTestCourse("Data Science", "Dr. Smith", "Programming"));
+        courseRepository.save(createTestCourse("UI/UX Design", "Bob Johnson", "Design"));
+
+        mockMvc.perform(get("/api/courses/facets").param("category", "programming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.facets.category.Programming").value(2))
+                .andExpect(jsonPath("$.facets.category.Design").value(1));
+    }
+
     private Course createTestCourse(String title, String instructor, String category) {
         Course course = new Course();
         course.setTitle(title);
@@ -0,0 +1,158 @@
+package com.webvibes.portal.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.model.Course;
+import com.webvibes.portal.model.CourseEnrollment;
+import com.webvibes.portal.repository.CourseEnrollmentRepository;
+import com.webvibes.portal.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class CourseEnrollmentControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+
+    private Course java;
+    private Course design;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentRepository.deleteAll();
+        courseRepository.deleteAll();
+        java = courseRepository.save(createTestCourse("Java Fundamentals"));
+        design = courseRepository.save(createTestCourse("UI/UX Design"));
+    }
+
+    @Test
+    void testCreateEnrollment() throws Exception {
+        Map<String, Object> payload = Map.of(
+                "course", Map.of("id", java.getId()),
+                "fullName", "Jane Doe",
+                "email", "jane@example.com",
+                "phone", "1234567890",
+                "address", "Pune",
+                "qualification", "B.Tech",
+                "institution", "COEP",
+                "experience", "None",
+                "motivation", "Learn Java");
+
+        mockMvc.perform(post("/api/course-enrollments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.course.id").value(java.getId()))
+                .andExpect(jsonPath("$.course.title").value("Java Fundamentals"))
+                .andExpect(jsonPath("$.enrolledAt").exists());
+    }
+
+    @Test
+    void testListEnrollmentsCarriesOnlyCourseIdAndTitle() throws Exception {
+        enrollmentRepository.save(createTestEnrollment(java, "Jane Doe"));
+        enrollmentRepository.save(createTestEnrollment(design, "John Smith"));
+
+        mockMvc.perform(get("/api/course-enrollments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].fullName").value("Jane Doe"))
+                .andExpect(jsonPath("$[0].course.title").value("Java Fundamentals"))
+                .andExpect(jsonPath("$[0].course", aMapWithSize(2)));
+    }
+
+    @Test
+    void testListEnrollmentsByCourse() throws Exception {
+        enrollmentRepository.save(createTestEnrollment(java, "Jane Doe"));
+        enrollmentRepository.save(createTestEnrollment(design, "John Smith"));
+
+        mockMvc.perform(get("/api/course-enrollments/course/" + design.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].fullName").value("John Smith"))
+                .andExpect(jsonPath("$[0].course.id").value(design.getId()));
+    }
+
+    @Test
+    void testEnrollmentSummariesOmitFreeText() throws Exception {
+        CourseEnrollment saved = enrollmentRepository.save(createTestEnrollment(java, "Jane Doe"));
+        enrollmentRepository.save(createTestEnrollment(design, "John Smith"));
+
+        mockMvc.perform(get("/api/course-enrollments").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].course.title").value("Java Fundamentals"))
+                .andExpect(jsonPath("$[0].institution").value("COEP"))
+                .andExpect(jsonPath("$[0].motivation").doesNotExist())
+                .andExpect(jsonPath("$[0].experience").doesNotExist())
+                .andExpect(jsonPath("$[0].address").doesNotExist());
+
+        mockMvc.perform(get("/api/course-enrollments/course/" + design.getId()).param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].fullName").value("John Smith"));
+
+        mockMvc.perform(get("/api/course-enrollments/" + saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.motivation").value("Learning"))
+                .andExpect(jsonPath("$.course.id").value(java.getId()));
+    }
+
+    @Test
+    void testExportEnrollmentsAsCsv() throws Exception {
+        enrollmentRepository.save(createTestEnrollment(java, "Jane Doe"));
+
+        mockMvc.perform(get("/api/course-enrollments/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("id,courseId,courseTitle,fullName")))
+                .andExpect(content().string(containsString(",Java Fundamentals,Jane Doe,")));
+    }
+
+    private Course createTestCourse(String title) {
+        Course course = new Course();
+        course.setTitle(title);
+        course.setInstructor("Instructor");
+        course.setDescription("Description");
+        course.setActive(true);
+        return course;
+    }
+
+    private CourseEnrollment createTestEnrollment(Course course, String fullName) {
+        CourseEnrollment enrollment = new CourseEnrollment();
+        enrollment.setCourse(course);
+        enrollment.setFullName(fullName);
+        enrollment.setEmail("student@example.com");
+        enrollment.setPhone("1234567890");
+        enrollment.setAddress("Pune");
+        enrollment.setQualification("B.Tech");
+        enrollment.setInstitution("COEP");
+        enrollment.setExperience("None");
+        enrollment.setMotivation("Learning");
+        return enrollment;
+    }
+}
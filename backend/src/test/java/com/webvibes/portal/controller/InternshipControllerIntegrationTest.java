@@ -1,6 +1,8 @@
 package com.webvibes.portal.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.cache.CatalogSnapshot;
 import com.webvibes.portal.model.Internship;
 import com.webvibes.portal.repository.InternshipRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +13,19 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -32,9 +44,13 @@ class InternshipControllerIntegrationTest {
     @Autowired
     private InternshipRepository internshipRepository;
 
+    @Autowired
+    private CatalogSnapshot<Internship> activeInternships;
+
     @BeforeEach
     void setUp() {
         internshipRepository.deleteAll();
+        activeInternships.invalidate();
     }
 
     @Test
@@ -75,6 +91,64 @@ class InternshipControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].title").value("Frontend Developer"));
     }
 
+    @Test
+    void testListInternshipsByCursor() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            internshipRepository.save(createTestInternship("Internship " + i, "Engineering", "Remote"));
+        }
+
+        Set<String> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/internships").param("limit", "2");
+            if (cursor != null) {
+                request = request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("items").forEach(item -> seen.add(item.get("title").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(5, seen.size());
+    }
+
+    @Test
+    void testListInternshipSummariesOmitDescription() throws Exception {
+        Internship older = createTestInternship("Older Internship", "Design", "Pune");
+        older.setPostedAt(older.getPostedAt().minusDays(1));
+        internshipRepository.save(older);
+        Internship newer = internshipRepository.save(createTestInternship("Newer Internship", "Engineering", "Remote"));
+
+        mockMvc.perform(get("/api/internships").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("Newer Internship"))
+                .andExpect(jsonPath("$[0].department").value("Engineering"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        mockMvc.perform(get("/api/internships").param("view", "summary").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(newer.getId()))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        mockMvc.perform(get("/api/internships/" + newer.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Test description"));
+    }
+
+    @Test
+    void testListInternshipsByCursor_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/internships").param("limit", "2").param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetActiveInternships() throws Exception {
         Internship active = createTestInternship("Active Internship", "Engineering", "Boston");
@@ -93,6 +167,158 @@ class InternshipControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].active").value(true));
     }
 
+    @Test
+    void testActiveInternshipsReflectWrites() throws Exception {
+        Internship saved = internshipRepository.save(createTestInternship("Cached Internship", "Engineering", "Boston"));
+
+        mockMvc.perform(get("/api/internships/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        Internship created = createTestInternship("New Internship", "Design", "Remote");
+        mockMvc.perform(post("/api/internships")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(created)))
+                .andExpect(status().isCreated());
+
+        saved.setActive(false);
+        mockMvc.perform(put("/api/internships/" + saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(saved)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/internships/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("New Internship"));
+    }
+
+    @Test
+    void testActiveInternshipsConditionalGet() throws Exception {
+        internshipRepository.save(createTestInternship("Active Internship", "Engineering", "Boston"));
+
+        String etag = mockMvc.perform(get("/api/internships/active"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/internships/active").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(post("/api/internships")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTestInternship("New Internship", "Design", "Remote"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/internships/active").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void testActiveInternshipsServedGzipped() throws Exception {
+        internshipRepository.save(createTestInternship("Active Internship", "Engineering", "Boston"));
+
+        MvcResult plain = mockMvc.perform(get("/api/internships/active"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andReturn();
+        MvcResult gzipped = mockMvc.perform(get("/api/internships/active").header("Accept-Encoding", "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        byte[] body;
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+            body = in.readAllBytes();
+        }
+        assertArrayEquals(plain.getResponse().getContentAsByteArray(), body);
+        assertNotEquals(plain.getResponse().getHeader("ETag"), gzipped.getResponse().getHeader("ETag"));
+
+        mockMvc.perform(get("/api/internships/active")
+                        .header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", gzipped.getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testImportInternshipsFromJson() throws Exception {
+        List<Internship> internships = List.of(
+                createTestInternship("Backend Developer", "Engineering", "New York"),
+                createTestInternship("Frontend Developer", "Engineering", "San Francisco"),
+                createTestInternship("Data Analyst", "Analytics", "Austin"));
+
+        mockMvc.perform(post("/api/internships/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(internships)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.errors", hasSize(0)));
+
+        mockMvc.perform(get("/api/internships/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)));
+    }
+
+    @Test
+    void testImportInternshipsFromCsv() throws Exception {
+        String csv = "title,department,location,durationWeeks,description,active\r\n"
+                + "Backend Developer,Engineering,Remote,12,\"Build APIs, services and \"\"tools\"\"\",true\r\n"
+                + "Marketing Intern,Marketing,Pune,8,Campaigns,false\r\n";
+
+        mockMvc.perform(post("/api/internships/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+
+        List<Internship> saved = internshipRepository.findAll();
+        assertEquals(2, saved.size());
+        Internship backend = saved.stream().filter(Internship::isActive).findFirst().orElseThrow();
+        assertEquals("Build APIs, services and \"tools\"", backend.getDescription());
+        assertEquals(12, backend.getDurationWeeks());
+    }
+
+    @Test
+    void testImportInternships_ValidationErrorImportsNothing() throws Exception {
+        Internship invalid = createTestInternship("", "Engineering", "Remote");
+        List<Internship> internships = List.of(createTestInternship("Valid", "Engineering", "Remote"), invalid);
+
+        mockMvc.perform(post("/api/internships/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(internships)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.imported").value(0))
+                .andExpect(jsonPath("$.errors[0]", startsWith("Row 2: title")));
+
+        assertEquals(0, internshipRepository.count());
+    }
+
+    @Test
+    void testSearchInternships() throws Exception {
+        internshipRepository.save(createTestInternship("Backend Developer", "Engineering", "Pune"));
+        internshipRepository.save(createTestInternship("Marketing Intern", "Marketing", "Remote"));
+
+        mockMvc.perform(get("/api/internships/search").param("q", "eng pune"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Backend Developer"));
+
+        mockMvc.perform(post("/api/internships")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTestInternship("Growth Marketer", "Marketing", "Pune"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/internships/search").param("q", "market"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
     @Test
     void testGetInternshipById() throws Exception {
         Internship internship = createTestInternship("Data Analyst", "Analytics", "Austin");
@@ -0,0 +1,59 @@
+package com.webvibes.portal.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.broadcast.ChangeBroadcaster;
+import com.webvibes.portal.model.Internship;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@Transactional
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeBroadcaster changeBroadcaster;
+
+    @Test
+    void testPrometheusScrapeCoversServicesRepositoriesAndBroadcasts() throws Exception {
+        Internship internship = new Internship();
+        internship.setTitle("Metrics Internship");
+        internship.setDepartment("Engineering");
+        internship.setLocation("Remote");
+        internship.setDurationWeeks(8);
+        internship.setDescription("Counted");
+        mockMvc.perform(post("/api/internships")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(internship)))
+                .andExpect(status().isCreated());
+        changeBroadcaster.flush();
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        matchesRegex("(?s).*portal_service_seconds_count\\{[^}]*class=\"com\\.webvibes\\.portal\\.service\\.InternshipService\"[^}]*method=\"create\".*"),
+                        containsString("portal_service_seconds_bucket"),
+                        matchesRegex("(?s).*spring_data_repository_invocations_seconds_count\\{[^}]*repository=\"InternshipRepository\".*"),
+                        matchesRegex("(?s).*websocket_broadcast_seconds_count\\{[^}]*topic=\"/topic/internships\".*"),
+                        containsString("hikaricp_connections_active"))));
+    }
+}
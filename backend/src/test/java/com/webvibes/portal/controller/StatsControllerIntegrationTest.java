@@ -0,0 +1,165 @@
+package com.webvibes.portal.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.model.Application;
+import com.webvibes.portal.model.Course;
+import com.webvibes.portal.repository.ApplicationRepository;
+import com.webvibes.portal.repository.CourseEnrollmentRepository;
+import com.webvibes.portal.repository.CourseRepository;
+import com.webvibes.portal.stats.SubmissionStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class StatsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private SubmissionStats submissionStats;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository.deleteAll();
+        enrollmentRepository.deleteAll();
+        courseRepository.deleteAll();
+        course = courseRepository.save(createTestCourse());
+        applicationRepository.save(createTestApplication(1L));
+        applicationRepository.save(createTestApplication(1L));
+        applicationRepository.save(createTestApplication(2L));
+        submissionStats.reseed();
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationRepository.deleteAll();
+        enrollmentRepository.deleteAll();
+        courseRepository.deleteAll();
+    }
+
+    @Test
+    void testCountsAreSeededFromDatabase() throws Exception {
+        mockMvc.perform(get("/api/stats/applications"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.1").value(2))
+                .andExpect(jsonPath("$.2").value(1));
+
+        mockMvc.perform(get("/api/stats/applications/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testCountersFollowCommittedWrites() throws Exception {
+        mockMvc.perform(post("/api/applications")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTestApplication(2L))))
+                .andExpect(status().isCreated());
+
+        String enrollment = mockMvc.perform(post("/api/course-enrollments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(enrollmentPayload())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/stats/applications/2"))
+                .andExpect(content().string("2"));
+        mockMvc.perform(get("/api/stats/enrollments/" + course.getId()))
+                .andExpect(content().string("1"));
+
+        Long enrollmentId = objectMapper.readTree(enrollment).get("id").asLong();
+        mockMvc.perform(delete("/api/course-enrollments/" + enrollmentId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/stats/enrollments/" + course.getId()))
+                .andExpect(content().string("0"));
+    }
+
+    @Test
+    void testUncommittedWritesAreNotCounted() throws Exception {
+        mockMvc.perform(post("/api/applications")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTestApplication(2L))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/stats/applications/2"))
+                .andExpect(content().string("1"));
+    }
+
+    @Test
+    void testDailyCounts() throws Exception {
+        mockMvc.perform(get("/api/stats/daily").param("days", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(7)))
+                .andExpect(jsonPath("$[6].date").value(LocalDate.now().toString()))
+                .andExpect(jsonPath("$[6].applications").value(3))
+                .andExpect(jsonPath("$[6].enrollments").value(0))
+                .andExpect(jsonPath("$[0].applications").value(0));
+    }
+
+    private Map<String, Object> enrollmentPayload() {
+        return Map.of(
+                "course", Map.of("id", course.getId()),
+                "fullName", "Jane Doe",
+                "email", "jane@example.com",
+                "phone", "1234567890",
+                "address", "Pune",
+                "qualification", "B.Tech",
+                "institution", "COEP",
+                "experience", "None",
+                "motivation", "Learning");
+    }
+
+    private Application createTestApplication(Long internshipId) {
+        Application application = new Application();
+        application.setInternshipId(internshipId);
+        application.setFullName("John Doe");
+        application.setEmail("john@example.com");
+        application.setPhone("1234567890");
+        application.setCoverLetter("I am interested in this position");
+        return application;
+    }
+
+    private Course createTestCourse() {
+        Course course = new Course();
+        course.setTitle("Java Fundamentals");
+        course.setInstructor("Instructor");
+        course.setDescription("Description");
+        return course;
+    }
+}
@@ -0,0 +1,127 @@
+package com.webvibes.portal.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.ingest.WriteBehindQueue;
+import com.webvibes.portal.model.Application;
+import com.webvibes.portal.model.ContactMessage;
+import com.webvibes.portal.repository.ApplicationRepository;
+import com.webvibes.portal.repository.ContactMessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "ingest.write-behind.enabled=true",
+        "ingest.write-behind.queue-capacity=2",
+        "ingest.write-behind.flush-interval-ms=3600000",
+        "ingest.write-behind.spill-dir=target/write-behind",
+        "spring.datasource.url=jdbc:h2:mem:writebehind"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WriteBehindIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WriteBehindQueue<Application> applicationWriteBehind;
+
+    @Autowired
+    private WriteBehindQueue<ContactMessage> contactMessageWriteBehind;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @AfterEach
+    void tearDown() {
+        applicationWriteBehind.flush();
+        contactMessageWriteBehind.flush();
+        applicationRepository.deleteAll();
+        contactMessageRepository.deleteAll();
+    }
+
+    @Test
+    void testApplicationsAreAcceptedAndWrittenOnFlush() throws Exception {
+        for (String name : List.of("John Doe", "Jane Smith")) {
+            mockMvc.perform(post("/api/applications")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createTestApplication(name))))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.fullName").value(name));
+        }
+        assertEquals(0, applicationRepository.count());
+
+        applicationWriteBehind.flush();
+
+        List<Application> saved = applicationRepository.findAll();
+        assertEquals(2, saved.size());
+        saved.forEach(application -> assertNotNull(application.getAppliedAt()));
+    }
+
+    @Test
+    void testFullQueueIsRejectedWithRetryAfter() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/contact")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createTestMessage("Sender " + i))))
+                    .andExpect(status().isAccepted());
+        }
+
+        mockMvc.perform(post("/api/contact")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTestMessage("Overflow"))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+
+        contactMessageWriteBehind.flush();
+        assertEquals(2, contactMessageRepository.count());
+    }
+
+    @Test
+    void testInvalidSubmissionIsNotQueued() throws Exception {
+        mockMvc.perform(post("/api/contact")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ContactMessage())))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(0, contactMessageWriteBehind.pending());
+    }
+
+    private Application createTestApplication(String fullName) {
+        Application application = new Application();
+        application.setInternshipId(1L);
+        application.setFullName(fullName);
+        application.setEmail("applicant@example.com");
+        application.setPhone("1234567890");
+        application.setCoverLetter("I am interested in this position");
+        return application;
+    }
+
+    private ContactMessage createTestMessage(String name) {
+        ContactMessage message = new ContactMessage();
+        message.setName(name);
+        message.setEmail("sender@example.com");
+        message.setSubject("Question");
+        message.setMessage("Test message");
+        return message;
+    }
+}
@@ -0,0 +1,52 @@
+package com.webvibes.portal.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webvibes.portal.model.Course;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BulkImporterTest {
+
+    private final EntityManager entityManager = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final BulkImporter importer = new BulkImporter(entityManager, transactionTemplate,
+            Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 2);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCommitFailureKeepsCountOfEarlierChunks() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).doThrow(new TransactionSystemException("Could not commit JPA transaction"))
+                .when(transactionTemplate).executeWithoutResult(any());
+        List<List<Course>> committed = new ArrayList<>();
+
+        ImportResult result = importer.importAll(
+                List.of(course("Java"), course("Design"), course("Data"), course("Cloud")), committed::add);
+
+        assertEquals(2, result.imported());
+        assertEquals(1, result.batches());
+        assertEquals(List.of("Rows 3-4: Could not commit JPA transaction"), result.errors());
+        assertEquals(1, committed.size());
+    }
+
+    private Course course(String title) {
+        Course course = new Course();
+        course.setTitle(title);
+        course.setInstructor("Instructor");
+        course.setDescription("Description");
+        return course;
+    }
+}
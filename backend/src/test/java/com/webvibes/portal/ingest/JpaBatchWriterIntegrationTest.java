@@ -0,0 +1,82 @@
+package com.webvibes.portal.ingest;
+
+import com.webvibes.portal.model.Application;
+import com.webvibes.portal.repository.ApplicationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JpaBatchWriterIntegrationTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @AfterEach
+    void tearDown() {
+        applicationRepository.deleteAll();
+    }
+
+    @Test
+    void testFailedBatchCanBeWrittenAgain() {
+        JpaBatchWriter<Application> writer = new JpaBatchWriter<>(entityManager, transactionTemplate);
+        Application good = application("Jane Doe", "Short letter");
+        Application tooLong = application("John Doe", "x".repeat(300));
+        List<Application> batch = List.of(good, tooLong);
+
+        assertThrows(RuntimeException.class, () -> writer.accept(batch));
+        assertNull(good.getId());
+        assertNull(tooLong.getId());
+        assertEquals(0, applicationRepository.count());
+
+        tooLong.setCoverLetter("Fixed letter");
+        writer.accept(batch);
+
+        assertNotNull(good.getId());
+        assertNotNull(tooLong.getId());
+        assertEquals(2, applicationRepository.count());
+    }
+
+    @Test
+    void testQueueWritesGoodRowsOfFailedBatchAndDropsTheBadOne() {
+        List<Application> notified = new ArrayList<>();
+        WriteBehindQueue<Application> queue = new WriteBehindQueue<>("applications", 10, 10, 2,
+                new JpaBatchWriter<>(entityManager, transactionTemplate), notified::addAll);
+        queue.offer(application("Jane Doe", "Short letter"));
+        queue.offer(application("John Doe", "x".repeat(300)));
+        queue.offer(application("Ann Lee", "Another letter"));
+
+        queue.flush();
+        queue.flush();
+
+        assertEquals(0, queue.pending());
+        assertEquals(List.of("Jane Doe", "Ann Lee"), notified.stream().map(Application::getFullName).toList());
+        assertEquals(2, applicationRepository.count());
+    }
+
+    private Application application(String name, String coverLetter) {
+        Application application = new Application();
+        application.setInternshipId(1L);
+        application.setFullName(name);
+        application.setEmail("applicant@example.com");
+        application.setPhone("1234567890");
+        application.setCoverLetter(coverLetter);
+        return application;
+    }
+}
@@ -0,0 +1,189 @@
+package com.webvibes.portal.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.webvibes.portal.model.ContactMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindQueueTest {
+
+    private final List<List<Integer>> written = new ArrayList<>();
+    private final List<Integer> notified = new ArrayList<>();
+
+    @Test
+    void testRejectsWhenFull() {
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("rows", 2, 10, 3, written::add, notified::addAll);
+
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertFalse(queue.offer(3));
+        assertEquals(2, queue.pending());
+    }
+
+    @Test
+    void testFlushWritesInBatches() {
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("rows", 10, 2, 3, written::add, notified::addAll);
+        for (int i = 1; i <= 5; i++) {
+            queue.offer(i);
+        }
+
+        queue.flush();
+
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), written);
+        assertEquals(List.of(1, 2, 3, 4, 5), notified);
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    void testFailedBatchIsRetriedInOrder() {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("rows", 10, 2, 3, batch -> {
+            if (fail.get()) {
+                throw new IllegalStateException("database unavailable");
+            }
+            written.add(List.copyOf(batch));
+        }, notified::addAll);
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+
+        queue.flush();
+        assertEquals(3, queue.pending());
+        assertTrue(notified.isEmpty());
+
+        fail.set(false);
+        queue.flush();
+        assertEquals(List.of(List.of(1), List.of(2), List.of(3)), written);
+        assertEquals(List.of(1, 2, 3), notified);
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    void testBadRowIsDroppedWithoutBlockingTheQueue() {
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("rows", 10, 10, 3, batch -> {
+            if (batch.contains(2)) {
+                throw new IllegalArgumentException("value too long for column");
+            }
+            written.add(List.copyOf(batch));
+        }, notified::addAll);
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+
+        for (int i = 0; i < 3; i++) {
+            queue.flush();
+        }
+
+        assertEquals(List.of(1, 3), notified);
+        assertEquals(0, queue.pending());
+
+        queue.offer(4);
+        queue.flush();
+        assertEquals(List.of(1, 3, 4), notified);
+    }
+
+    @Test
+    void testConnectionFailuresDoNotCountAsAttempts() {
+        AtomicInteger failures = new AtomicInteger(10);
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("rows", 10, 10, 3, batch -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new CannotCreateTransactionException("database unavailable");
+            }
+            written.add(List.copyOf(batch));
+        }, notified::addAll);
+        queue.offer(1);
+
+        for (int i = 0; i < 12; i++) {
+            queue.flush();
+        }
+
+        assertEquals(List.of(1), notified);
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    void testAcceptedRowsAreKeptWhenQueueRefillsDuringFailedBatch() {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        List<WriteBehindQueue<Integer>> self = new ArrayList<>();
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("rows", 2, 2, 3, batch -> {
+            if (fail.getAndSet(false)) {
+                assertTrue(self.get(0).offer(3));
+                assertTrue(self.get(0).offer(4));
+                throw new CannotCreateTransactionException("database unavailable");
+            }
+            written.add(List.copyOf(batch));
+        }, notified::addAll);
+        self.add(queue);
+        queue.offer(1);
+        queue.offer(2);
+
+        queue.flush();
+        queue.flush();
+
+        assertEquals(List.of(1, 2, 3, 4), notified);
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    void testCloseKeepsFlushingUntilWrittenOrTimedOut() {
+        AtomicInteger failures = new AtomicInteger(2);
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("rows", 10, 10, 3, batch -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new CannotCreateTransactionException("database unavailable");
+            }
+            written.add(List.copyOf(batch));
+        }, notified::addAll, Duration.ofSeconds(5), null);
+        queue.offer(1);
+
+        queue.close();
+
+        assertEquals(List.of(1), notified);
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    void testUnwrittenRowsAreSpilledAndRestoredByTheNextQueue(@TempDir Path dir) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Path file = dir.resolve("contact-messages.jsonl");
+        List<ContactMessage> saved = new ArrayList<>();
+        WriteBehindQueue<ContactMessage> down = new WriteBehindQueue<>("contact messages", 10, 10, 3, batch -> {
+            throw new CannotCreateTransactionException("database unavailable");
+        }, rows -> {}, Duration.ZERO, new JsonLinesSpill<>(file, ContactMessage.class, objectMapper));
+        down.offer(message("First"));
+        down.offer(message("Second"));
+
+        down.close();
+        assertEquals(0, down.pending());
+        assertEquals(2, Files.readAllLines(file).size());
+
+        WriteBehindQueue<ContactMessage> restarted = new WriteBehindQueue<>("contact messages", 10, 10, 3,
+                saved::addAll, rows -> {}, Duration.ZERO,
+                new JsonLinesSpill<>(file, ContactMessage.class, objectMapper));
+        assertFalse(Files.exists(file));
+        assertEquals(2, restarted.pending());
+
+        restarted.flush();
+        assertEquals(List.of("First", "Second"), saved.stream().map(ContactMessage::getName).toList());
+    }
+
+    private ContactMessage message(String name) {
+        ContactMessage message = new ContactMessage();
+        message.setName(name);
+        message.setEmail("sender@example.com");
+        message.setSubject("Question");
+        message.setMessage("Test message");
+        return message;
+    }
+}
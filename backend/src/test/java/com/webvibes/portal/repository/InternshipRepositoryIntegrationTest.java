@@ -0,0 +1,63 @@
+package com.webvibes.portal.repository;
+
+import com.webvibes.portal.model.Internship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class InternshipRepositoryIntegrationTest {
+
+    @Autowired
+    private InternshipRepository internshipRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        internshipRepository.deleteAll();
+    }
+
+    @Test
+    void testDepartmentLookupFindsRowsInsertedWithSql() {
+        jdbcTemplate.update("insert into internships (id, title, department, location, duration_weeks, description,"
+                + " active, posted_at) values (next value for internships_seq, 'Analyst', ' Data Science ', 'Remote',"
+                + " 8, 'd', true, current_timestamp)");
+
+        assertEquals(List.of("Analyst"), titles(internshipRepository.findByDepartmentIgnoreCase("data science")));
+    }
+
+    @Test
+    void testDepartmentKeyFollowsDepartmentChanges() {
+        Internship internship = new Internship();
+        internship.setTitle("Designer");
+        internship.setDepartment("Design");
+        internship.setLocation("Pune");
+        internship.setDurationWeeks(8);
+        internship.setDescription("d");
+        internship = internshipRepository.saveAndFlush(internship);
+        assertEquals("design", internship.getDepartmentKey());
+
+        internship.setDepartment(" Product ");
+        internshipRepository.flush();
+
+        assertEquals("product", internship.getDepartmentKey());
+        assertEquals(List.of("Designer"), titles(internshipRepository.findByDepartmentIgnoreCase("PRODUCT")));
+        assertEquals(List.of(), internshipRepository.findByDepartmentIgnoreCase("design"));
+    }
+
+    private static List<String> titles(List<Internship> internships) {
+        return internships.stream().map(Internship::getTitle).toList();
+    }
+}
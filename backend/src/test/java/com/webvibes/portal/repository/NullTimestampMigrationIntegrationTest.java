@@ -0,0 +1,80 @@
+package com.webvibes.portal.repository;
+
+import com.webvibes.portal.model.Application;
+import com.webvibes.portal.model.Internship;
+import com.webvibes.portal.paging.Cursor;
+import com.webvibes.portal.paging.CursorPage;
+import com.webvibes.portal.service.ApplicationService;
+import com.webvibes.portal.service.InternshipService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts from a V3 database holding rows with a NULL posted_at / applied_at
+ * between dated ones, lets the application migrate it and walks every page.
+ */
+@SpringBootTest(properties = "spring.datasource.url=" + NullTimestampMigrationIntegrationTest.URL)
+@ActiveProfiles("test")
+class NullTimestampMigrationIntegrationTest {
+
+    static final String URL = "jdbc:h2:mem:nulltimestamps;DB_CLOSE_DELAY=-1";
+
+    static {
+        Flyway.configure().dataSource(URL, "sa", "").locations("classpath:db/migration/h2").target("3")
+                .load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+        String internship = "insert into internships (id, title, department, department_key, location, duration_weeks,"
+                + " description, active, posted_at) values (?, ?, 'Engineering', 'engineering', 'Remote', 8, 'd', true, ?)";
+        jdbc.update(internship, 1, "Newest", "2024-03-01 00:00:00");
+        jdbc.update(internship, 2, "Undated", null);
+        jdbc.update(internship, 3, "Oldest", "2024-01-01 00:00:00");
+        String application = "insert into applications (id, internship_id, full_name, email, phone, cover_letter,"
+                + " applied_at) values (?, 1, ?, 'a@example.com', '123', 'letter', ?)";
+        jdbc.update(application, 1, "Newest", "2024-03-01 00:00:00");
+        jdbc.update(application, 2, "Undated", null);
+        jdbc.update(application, 3, "Oldest", "2024-01-01 00:00:00");
+        jdbc.execute("alter sequence internships_seq restart with 101");
+        jdbc.execute("alter sequence applications_seq restart with 101");
+    }
+
+    @Autowired
+    private InternshipService internshipService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Test
+    void testInternshipPagesReachRowsThatHadNoTimestamp() {
+        assertEquals(List.of("Newest", "Oldest", "Undated"),
+                walk(internshipService::listPage, Internship::getTitle));
+    }
+
+    @Test
+    void testApplicationPagesReachRowsThatHadNoTimestamp() {
+        assertEquals(List.of("Newest", "Oldest", "Undated"),
+                walk(applicationService::listPage, Application::getFullName));
+    }
+
+    private <T> List<String> walk(BiFunction<Cursor, Integer, CursorPage<T>> page, Function<T, String> name) {
+        List<String> seen = new ArrayList<>();
+        Cursor cursor = null;
+        do {
+            CursorPage<T> current = page.apply(cursor, 1);
+            current.items().forEach(item -> seen.add(name.apply(item)));
+            cursor = Cursor.decode(current.nextCursor());
+        } while (cursor != null);
+        return seen;
+    }
+}
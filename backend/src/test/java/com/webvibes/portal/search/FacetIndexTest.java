@@ -0,0 +1,94 @@
+package com.webvibes.portal.search;
+
+import com.webvibes.portal.cache.CatalogSnapshot;
+import com.webvibes.portal.model.Internship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetIndexTest {
+
+    private final List<Internship> table = new ArrayList<>();
+
+    private CatalogSnapshot<Internship> snapshot;
+    private FacetIndex<Internship> index;
+
+    @BeforeEach
+    void setUp() {
+        table.clear();
+        table.add(internship(1L, "Engineering", "Pune", 12));
+        table.add(internship(2L, "Engineering", "Remote", 8));
+        table.add(internship(3L, "Marketing", "Remote", 12));
+        snapshot = new CatalogSnapshot<>(() -> List.copyOf(table), Internship::getId, Internship::isActive,
+                Duration.ofHours(1));
+        Map<String, Function<Internship, ?>> facets = new LinkedHashMap<>();
+        facets.put("department", Internship::getDepartment);
+        facets.put("location", Internship::getLocation);
+        facets.put("durationWeeks", Internship::getDurationWeeks);
+        index = new FacetIndex<>(snapshot, Internship::getId, facets);
+    }
+
+    @Test
+    void testUnfilteredQueryCountsEveryValue() {
+        FacetedResult<Internship> result = index.query(Map.of(), 10);
+
+        assertEquals(3, result.total());
+        assertEquals(List.of(3L, 2L, 1L), ids(result));
+        assertEquals(Map.of("Engineering", 2, "Marketing", 1), result.facets().get("department"));
+        assertEquals(Map.of("12", 2, "8", 1), result.facets().get("durationWeeks"));
+    }
+
+    @Test
+    void testFiltersAreAndedAcrossFacetsAndOredWithin() {
+        FacetedResult<Internship> result = index.query(Map.of(
+                "location", List.of("remote"),
+                "durationWeeks", List.of("8", "12")), 10);
+
+        assertEquals(List.of(3L, 2L), ids(result));
+        assertEquals(Map.of("Remote", 2, "Pune", 1), result.facets().get("location"));
+        assertEquals(Map.of("Engineering", 1, "Marketing", 1), result.facets().get("department"));
+    }
+
+    @Test
+    void testUnknownValueMatchesNothing() {
+        assertEquals(0, index.query(Map.of("department", List.of("Design")), 10).total());
+    }
+
+    @Test
+    void testFollowsSnapshotWrites() {
+        index.query(Map.of(), 10);
+
+        snapshot.put(internship(4L, "Design", "Pune", 6));
+        Internship moved = internship(2L, "Engineering", "Pune", 8);
+        snapshot.put(moved);
+        snapshot.remove(3L);
+
+        FacetedResult<Internship> result = index.query(Map.of("location", List.of("Pune")), 10);
+        assertEquals(List.of(4L, 2L, 1L), ids(result));
+        assertFalse(result.facets().get("department").containsKey("Marketing"));
+    }
+
+    private List<Long> ids(FacetedResult<Internship> result) {
+        return result.items().stream().map(Internship::getId).toList();
+    }
+
+    private Internship internship(Long id, String department, String location, int weeks) {
+        Internship internship = new Internship();
+        internship.setId(id);
+        internship.setTitle("Internship " + id);
+        internship.setDepartment(department);
+        internship.setLocation(location);
+        internship.setDurationWeeks(weeks);
+        internship.setDescription("Description");
+        internship.setActive(true);
+        return internship;
+    }
+}
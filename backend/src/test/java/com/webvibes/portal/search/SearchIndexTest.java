@@ -0,0 +1,88 @@
+package com.webvibes.portal.search;
+
+import com.webvibes.portal.cache.CatalogSnapshot;
+import com.webvibes.portal.model.Internship;
+import com.webvibes.portal.search.SearchIndex.Field;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTest {
+
+    private final List<Internship> table = new ArrayList<>();
+
+    private CatalogSnapshot<Internship> snapshot;
+    private SearchIndex<Internship> index;
+
+    @BeforeEach
+    void setUp() {
+        table.clear();
+        table.add(internship(1L, "Backend Developer", "Engineering", "Pune", "Java and Spring services"));
+        table.add(internship(2L, "Frontend Developer", "Engineering", "Remote", "Angular user interfaces"));
+        table.add(internship(3L, "Marketing Intern", "Marketing", "Mumbai", "Social media for developer tools"));
+        snapshot = new CatalogSnapshot<>(() -> List.copyOf(table), Internship::getId, Internship::isActive,
+                Duration.ofHours(1));
+        index = new SearchIndex<>(snapshot, Internship::getId, List.of(
+                new Field<>(Internship::getTitle, 3),
+                new Field<>(Internship::getDepartment, 2),
+                new Field<>(Internship::getLocation, 2),
+                new Field<>(Internship::getDescription, 1)));
+    }
+
+    @Test
+    void testRanksTitleMatchesAboveDescriptionMatches() {
+        assertEquals(List.of(2L, 1L, 3L), ids(index.search("developer", 10)));
+    }
+
+    @Test
+    void testAllTermsMustMatch() {
+        assertEquals(List.of(1L), ids(index.search("developer java", 10)));
+        assertTrue(index.search("developer python", 10).isEmpty());
+    }
+
+    @Test
+    void testMatchesPrefixesCaseInsensitively() {
+        assertEquals(List.of(3L), ids(index.search("MARK", 10)));
+        assertEquals(List.of(1L), ids(index.search("spr", 10)));
+    }
+
+    @Test
+    void testFollowsSnapshotWrites() {
+        index.search("developer", 10);
+
+        snapshot.put(internship(4L, "Data Engineer", "Analytics", "Remote", "Spark pipelines"));
+        Internship hidden = internship(1L, "Backend Developer", "Engineering", "Pune", "Java and Spring services");
+        hidden.setActive(false);
+        snapshot.put(hidden);
+        snapshot.remove(2L);
+
+        assertEquals(List.of(4L), ids(index.search("remote", 10)));
+        assertEquals(List.of(3L), ids(index.search("developer", 10)));
+    }
+
+    @Test
+    void testBlankQueryReturnsNothing() {
+        assertTrue(index.search("  ,. ", 10).isEmpty());
+    }
+
+    private List<Long> ids(List<Internship> hits) {
+        return hits.stream().map(Internship::getId).toList();
+    }
+
+    private Internship internship(Long id, String title, String department, String location, String description) {
+        Internship internship = new Internship();
+        internship.setId(id);
+        internship.setTitle(title);
+        internship.setDepartment(department);
+        internship.setLocation(location);
+        internship.setDurationWeeks(12);
+        internship.setDescription(description);
+        internship.setActive(true);
+        return internship;
+    }
+}
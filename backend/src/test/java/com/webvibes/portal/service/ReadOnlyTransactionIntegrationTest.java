@@ -0,0 +1,58 @@
+package com.webvibes.portal.service;
+
+import com.webvibes.portal.repository.InternshipRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReadOnlyTransactionIntegrationTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private InternshipService internshipService;
+
+    @MockitoSpyBean
+    private InternshipRepository internshipRepository;
+
+    @Test
+    void testOpenSessionInViewIsDisabled() {
+        assertTrue(context.getBeansOfType(OpenEntityManagerInViewInterceptor.class).isEmpty());
+    }
+
+    @Test
+    void testReadsRunInReadOnlySession() {
+        List<Object> seen = new ArrayList<>();
+        doAnswer(invocation -> {
+            Session session = entityManager.unwrap(Session.class);
+            seen.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            seen.add(session.isDefaultReadOnly());
+            seen.add(session.getHibernateFlushMode());
+            return List.of();
+        }).when(internshipRepository).findAll();
+
+        internshipService.listAll();
+
+        assertEquals(List.of(true, true, FlushMode.MANUAL), seen);
+    }
+}